@@ -3,6 +3,8 @@ SET FOREIGN_KEY_CHECKS = 0; -- 외래 키 체크 비활성화
 
 TRUNCATE TABLE members;
 TRUNCATE TABLE orders;
+TRUNCATE TABLE order_numbers;
 TRUNCATE TABLE sum_orders;
+TRUNCATE TABLE monthly_order_sums;
 
 SET FOREIGN_KEY_CHECKS = 1; -- 외래 키 체크 다시 활성화
\ No newline at end of file
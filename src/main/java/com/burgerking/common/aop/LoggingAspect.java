@@ -16,12 +16,14 @@ public class LoggingAspect {
 
     /**
      * com.burgerking 패키지 내의 모든 메서드(AOP 관련 로직 제외) 실행 시 시작, 종료, 예외 발생을 로깅합니다.
+     * 배치 패키지는 아이템 단위로 호출되는 Reader/Processor/Writer 빈이 있어 로깅 대상에서 제외합니다.
      *
      * @param joinPoint 프록시된 메서드에 대한 정보
      * @return 메서드 실행 결과
      * @throws Throwable 메서드 실행 중 발생한 예외
      */
-    @Around("within(com.burgerking..*) && !within(com.burgerking.common.aop..*)")
+    @Around("within(com.burgerking..*) && !within(com.burgerking.common.aop..*) && !within(com.burgerking.membership.batch..*)"
+            + " && !within(com.burgerking.membership.aggregation..*) && !within(com.burgerking.membership.cache..*)")
     public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
         String methodName = joinPoint.getSignature().toShortString();
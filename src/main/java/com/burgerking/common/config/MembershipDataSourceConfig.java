@@ -1,5 +1,6 @@
 package com.burgerking.common.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import javax.sql.DataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -35,6 +37,22 @@ public class MembershipDataSourceConfig {
         return properties.initializeDataSourceBuilder().build();
     }
 
+    /**
+     * 배치 커서 Reader 전용 DataSource 입니다. (MySQL 서버 커서, useCursorFetch=true)
+     * useCursorFetch는 모든 PreparedStatement를 서버 prepared statement로 바꾸어 PREPARE/CLOSE 왕복이 늘어나므로,
+     * 주문 처리 등 OLTP 경로가 쓰는 membershipDataSource와 분리하여 커서 Reader에만 적용합니다.
+     * 접속 정보는 spring.datasource.membership, 풀 설정은 spring.datasource.membership-cursor 를 사용합니다.
+     */
+    @Bean(name = "membershipCursorDataSource")
+    @ConfigurationProperties(prefix = "spring.datasource.membership-cursor")
+    public HikariDataSource membershipCursorDataSource(@Qualifier("membershipProperties") DataSourceProperties properties) {
+        String url = properties.determineUrl();
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url + (url.contains("?") ? "&" : "?") + "useCursorFetch=true")
+            .build();
+    }
+
     @Bean(name = "membershipEntityManagerFactory")
     public LocalContainerEntityManagerFactoryBean membershipEntityManagerFactory(
         EntityManagerFactoryBuilder builder,
@@ -52,4 +70,13 @@ public class MembershipDataSourceConfig {
         @Qualifier("membershipEntityManagerFactory") LocalContainerEntityManagerFactoryBean membershipEntityManagerFactory) {
         return new JpaTransactionManager(membershipEntityManagerFactory.getObject());
     }
+
+    /**
+     * JPA를 거치지 않는 대량 처리(배치 UPDATE 등)에 사용하는 JdbcTemplate 입니다.
+     * 같은 DataSource를 사용하므로 membershipTransactionManager 트랜잭션에 함께 참여합니다.
+     */
+    @Bean(name = "membershipJdbcTemplate")
+    public JdbcTemplate membershipJdbcTemplate(@Qualifier("membershipDataSource") DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.burgerking.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링(@Scheduled) 활성화 설정 클래스입니다.
+ * - SumOrder write-behind 버퍼의 주기적 flush 등에 사용됩니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,7 @@
 package com.burgerking.common.exception;
 
+import org.springframework.http.HttpStatus;
+
 /**
  * 애플리케이션에서 발생하는 모든 에러 코드를 위한 공통 인터페이스입니다.
  * 각 도메인의 에러 코드는 이 인터페이스를 구현해야 합니다.
@@ -14,4 +16,11 @@ public interface ErrorCode {
      * @return 사용자에게 보여줄 기본 에러 메시지
      */
     String getMessage();
+
+    /**
+     * @return 응답 HTTP 상태 (기본값 400 Bad Request)
+     */
+    default HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
 }
\ No newline at end of file
@@ -26,8 +26,8 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e, HttpServletRequest request) {
         ErrorResponse response = ErrorResponse.of(e.getErrorCode(), request.getRequestURI());
-        // 대부분의 비즈니스 예외는 Bad Request (400)로 처리합니다.
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        // 대부분의 비즈니스 예외는 Bad Request (400)로 처리하며, 에러 코드가 상태를 지정하면 따릅니다.
+        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
     }
 
     /**
@@ -0,0 +1,18 @@
+package com.burgerking.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 {@link TimeOrderedIdGenerator} 로 발급합니다.
+ * IDENTITY 와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT 가 가능합니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
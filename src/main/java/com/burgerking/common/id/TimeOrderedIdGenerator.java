@@ -0,0 +1,80 @@
+package com.burgerking.common.id;
+
+import java.time.Instant;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서로 증가하는 64비트 ID 생성기입니다.
+ * - [41비트: 기준 시각 이후 밀리초][10비트: 노드 ID][12비트: 밀리초 내 순번]
+ * - DB 왕복 없이 애플리케이션에서 ID를 발급하므로 INSERT 를 JDBC 배치로 묶을 수 있습니다.
+ * - 노드 ID는 시스템 프로퍼티 id-generator.node-id 또는 환경 변수 ID_GENERATOR_NODE_ID 로 지정하며,
+ *   여러 인스턴스를 띄울 때는 인스턴스마다 달라야 합니다. (기본값 0)
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator(resolveNodeId());
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    private TimeOrderedIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * 시계를 지정하는 생성자입니다. (테스트용)
+     */
+    TimeOrderedIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 공용 생성기를 반환합니다.
+     * JPA(@TimeOrderedId)와 JDBC 경로가 같은 인스턴스를 써야 ID가 겹치지 않습니다.
+     *
+     * @return 공용 ID 생성기
+     */
+    public static TimeOrderedIdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 다음 ID를 발급합니다.
+     * 시계가 뒤로 가거나 밀리초 내 순번을 다 쓰면 마지막 시각을 이어서 사용하여 단조 증가를 유지합니다.
+     *
+     * @return 새 ID
+     */
+    public synchronized long nextId() {
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH_MILLIS) << (NODE_ID_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    private static long resolveNodeId() {
+        String nodeId = System.getProperty("id-generator.node-id", System.getenv("ID_GENERATOR_NODE_ID"));
+        return nodeId == null || nodeId.isBlank() ? 0L : Long.parseLong(nodeId.trim());
+    }
+}
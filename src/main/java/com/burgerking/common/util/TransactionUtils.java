@@ -0,0 +1,33 @@
+package com.burgerking.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티 메서드를 제공하는 클래스입니다.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+        // 유틸리티 클래스는 인스턴스화하지 않습니다.
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다.
+     * 트랜잭션 밖에서 호출되면 바로 실행합니다.
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
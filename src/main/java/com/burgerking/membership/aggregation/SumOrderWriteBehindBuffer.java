@@ -0,0 +1,205 @@
+package com.burgerking.membership.aggregation;
+
+import com.burgerking.common.util.TransactionUtils;
+import com.burgerking.membership.domain.SumOrderDelta;
+import com.burgerking.membership.repository.MonthlyOrderSumBulkRepository;
+import com.burgerking.membership.repository.SumOrderBulkRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SumOrder write-behind 버퍼
+ * - 주문마다 sum_orders, monthly_order_sums 를 갱신하지 않고 사용자/주문 월별 금액/횟수 증분을 메모리에 모읍니다.
+ * - 사용자 ID 기준 스트라이프(lock striping)로 나누어 동시 주문 간 경합을 줄입니다.
+ * - flush-interval-millis 마다, 또는 대기 증분 수가 max-pending-users 에 도달하면
+ *   사용자/주문 월당 1건의 upsert 배치로 두 테이블에 함께 반영합니다.
+ * - orders 는 동기로 저장되므로 장애로 버퍼가 유실되어도 orders 로부터 재집계할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class SumOrderWriteBehindBuffer {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final SumOrderBulkRepository sumOrderBulkRepository;
+    private final MonthlyOrderSumBulkRepository monthlyOrderSumBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final int maxPendingUsers;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final AtomicInteger pendingUsers = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SumOrderWriteBehindBuffer(
+            SumOrderBulkRepository sumOrderBulkRepository,
+            MonthlyOrderSumBulkRepository monthlyOrderSumBulkRepository,
+            @Qualifier("membershipTransactionManager") PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            @Value("${membership.sum-order.write-behind.enabled:false}") boolean enabled,
+            @Value("${membership.sum-order.write-behind.max-pending-users:1000}") int maxPendingUsers) {
+        this.sumOrderBulkRepository = sumOrderBulkRepository;
+        this.monthlyOrderSumBulkRepository = monthlyOrderSumBulkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.maxPendingUsers = maxPendingUsers;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * write-behind 모드 사용 여부
+     * @return 사용 시 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 1건의 증분을 버퍼에 누적합니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에 누적하여, 롤백된 주문이 집계에 섞이지 않게 합니다.
+     * @param userId 사용자 ID
+     * @param orderMonth 주문 년월
+     * @param amount 주문 금액
+     */
+    public void add(Long userId, YearMonth orderMonth, int amount) {
+        add(userId, orderMonth, amount, 1);
+    }
+
+    /**
+     * 한 사용자의 같은 달 주문 여러 건을 합한 증분을 버퍼에 누적합니다.
+     * @param userId 사용자 ID
+     * @param orderMonth 주문 년월
+     * @param amount 주문 금액 합계
+     * @param orderCount 주문 횟수
+     */
+    public void add(Long userId, YearMonth orderMonth, long amount, int orderCount) {
+        TransactionUtils.runAfterCommit(() -> accumulate(userId, orderMonth, amount, orderCount));
+    }
+
+    private void accumulate(Long userId, YearMonth orderMonth, long amount, int orderCount) {
+        if (merge(userId, orderMonth, amount, orderCount)
+                && pendingUsers.incrementAndGet() >= maxPendingUsers
+                && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * 버퍼에 모인 증분을 sum_orders 에 반영합니다.
+     * 이미 다른 스레드가 flush 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${membership.sum-order.write-behind.flush-interval-millis:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushRequested.set(false);
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        List<SumOrderDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                sumOrderBulkRepository.upsertAll(deltas, now);
+                monthlyOrderSumBulkRepository.upsertAll(deltas, now);
+            });
+            log.debug("SumOrder write-behind flush: {} 건", deltas.size());
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 flush 에서 재시도하도록 증분을 되돌립니다.
+            log.error("SumOrder write-behind flush 실패: {} 건, 다음 주기에 재시도 - {}", deltas.size(), e.getMessage());
+            for (SumOrderDelta delta : deltas) {
+                if (merge(delta.getUserId(), delta.getOrderMonth(), delta.getAmount(), delta.getOrderCount())) {
+                    pendingUsers.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 스트라이프별로 맵을 교체하여 지금까지의 증분을 꺼냅니다.
+     */
+    private List<SumOrderDelta> drain() {
+        List<SumOrderDelta> drained = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            Map<DeltaKey, SumOrderDelta> deltas;
+            synchronized (stripe) {
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            drained.addAll(deltas.values());
+        }
+        pendingUsers.addAndGet(-drained.size());
+        return drained;
+    }
+
+    /**
+     * @return 버퍼에 없던 사용자/주문 월이 새로 추가되었으면 true
+     */
+    private boolean merge(Long userId, YearMonth orderMonth, long amount, int orderCount) {
+        Stripe stripe = stripes[Math.floorMod(userId.hashCode(), STRIPE_COUNT)];
+        DeltaKey key = new DeltaKey(userId, orderMonth);
+        synchronized (stripe) {
+            SumOrderDelta delta = stripe.deltas.get(key);
+            if (delta != null) {
+                delta.add(amount, orderCount);
+                return false;
+            }
+            stripe.deltas.put(key, new SumOrderDelta(userId, orderMonth, amount, orderCount));
+            return true;
+        }
+    }
+
+    private record DeltaKey(Long userId, YearMonth orderMonth) {
+    }
+
+    private static final class Stripe {
+        private Map<DeltaKey, SumOrderDelta> deltas = new HashMap<>();
+    }
+}
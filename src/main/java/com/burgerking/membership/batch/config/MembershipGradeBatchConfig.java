@@ -1,35 +1,78 @@
 package com.burgerking.membership.batch.config;
 
+import com.burgerking.membership.batch.dto.MembershipGradeItem;
+import com.burgerking.membership.batch.listener.MembershipGradeCacheInvalidationListener;
+import com.burgerking.membership.batch.listener.MembershipGradeChangeTracker;
+import com.burgerking.membership.batch.listener.MembershipGradeHighWaterMarkListener;
+import com.burgerking.membership.batch.partitioner.ColumnRangePartitioner;
+import com.burgerking.membership.batch.policy.AdaptiveChunkSizePolicy;
+import com.burgerking.membership.batch.processor.MembershipGradeItemProcessor;
 import com.burgerking.membership.batch.processor.MembershipGradeProcessor;
+import com.burgerking.membership.batch.reader.MembershipKeysetItemReader;
+import com.burgerking.membership.batch.tasklet.MembershipGradeCacheRefreshTasklet;
+import com.burgerking.membership.batch.tasklet.MembershipGradeSqlTasklet;
+import com.burgerking.membership.batch.writer.MembershipGradeJdbcWriter;
 import com.burgerking.membership.batch.writer.MembershipGradeWriter;
+import com.burgerking.membership.cache.MembershipResponseCache;
 import com.burgerking.membership.domain.Membership;
+import com.burgerking.membership.domain.enums.MembershipGrade;
 import com.burgerking.membership.repository.MembershipRepository;
+import com.burgerking.membership.repository.MonthlyOrderSumRepository;
 import com.burgerking.membership.repository.SumOrderRepository;
+import com.burgerking.membership.util.MembershipDateUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 
 // StepBuilder 관련 import
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.persistence.EntityManagerFactory;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 
 
 @Slf4j
 @Configuration
 @EnableBatchProcessing
+@EnableConfigurationProperties(MembershipGradeBatchProperties.class)
 public class MembershipGradeBatchConfig {
 
 
@@ -38,8 +81,20 @@ public class MembershipGradeBatchConfig {
     private final EntityManagerFactory entityManagerFactory;
     private final MembershipRepository membershipRepository;
     private final SumOrderRepository sumOrderRepository;
+    private final MonthlyOrderSumRepository monthlyOrderSumRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final DataSource cursorDataSource;
+    private final MembershipGradeBatchProperties properties;
+    private final JobExplorer jobExplorer;
+    private final MembershipResponseCache membershipResponseCache;
+    private final boolean inlinePromotionEnabled;
+
+    private static final String PARTITION_MIN_ID_KEY = "minId";
+    private static final String PARTITION_MAX_ID_KEY = "maxId";
 
-    private static final int CHUNK_SIZE = 100;
+    private static final String CHANGED_SINCE_CONDITION =
+            "m.userId IN (SELECT s.userId FROM SumOrder s WHERE s.updatedAt > :since)";
 
    /**
     *    
@@ -49,65 +104,590 @@ public class MembershipGradeBatchConfig {
     * @param entityManagerFactory
     * @param membershipRepository
     * @param sumOrderRepository
+    * @param monthlyOrderSumRepository
+    * @param jdbcTemplate
+    * @param dataSource
+    * @param cursorDataSource
+    * @param properties
+    * @param jobExplorer
+    * @param membershipResponseCache
+    * @param inlinePromotionEnabled
     */
     public MembershipGradeBatchConfig(
             JobRepository jobRepository,
             @Qualifier("membershipTransactionManager") PlatformTransactionManager transactionManager,
             @Qualifier("membershipEntityManagerFactory") EntityManagerFactory entityManagerFactory,
             MembershipRepository membershipRepository,
-            SumOrderRepository sumOrderRepository) {
+            SumOrderRepository sumOrderRepository,
+            MonthlyOrderSumRepository monthlyOrderSumRepository,
+            @Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate,
+            @Qualifier("membershipDataSource") DataSource dataSource,
+            @Qualifier("membershipCursorDataSource") DataSource cursorDataSource,
+            MembershipGradeBatchProperties properties,
+            JobExplorer jobExplorer,
+            MembershipResponseCache membershipResponseCache,
+            @Value("${membership.inline-promotion.enabled:false}") boolean inlinePromotionEnabled) {
+        if (inlinePromotionEnabled && properties.isRollingWindow()) {
+            // 즉시 승급은 누적 금액 기준이므로 평가 기간 기준 배치와 함께 켜면 등급이 서로 엇갈립니다.
+            throw new IllegalStateException(
+                    "batch.membership-grade.rolling-window 와 membership.inline-promotion.enabled 는 함께 켤 수 없습니다.");
+        }
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
         this.entityManagerFactory = entityManagerFactory;
         this.membershipRepository = membershipRepository;
         this.sumOrderRepository = sumOrderRepository;
+        this.monthlyOrderSumRepository = monthlyOrderSumRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.cursorDataSource = cursorDataSource;
+        this.properties = properties;
+        this.jobExplorer = jobExplorer;
+        this.membershipResponseCache = membershipResponseCache;
+        this.inlinePromotionEnabled = inlinePromotionEnabled;
     }
 
     /**
      * 멤버십 등급 평가 Job을 정의합니다.
+     * Job 파라미터 gradeMode에 따라 실행할 Step을 선택합니다.
+     * - PARTITIONED: id 구간별 파티션을 병렬로 처리 (membershipGradePartitionStep)
+     * - CURSOR: members/sum_orders 조인 결과를 커서로 스트리밍하여 처리 (membershipGradeCursorStep)
+     * - SQL: DB 안에서 UPDATE ... JOIN으로 일괄 재평가 (membershipGradeSqlStep)
+     * incremental=true이면 모든 모드에서 마지막 완료 실행 이후 누적 주문이 갱신된 멤버십만 평가합니다.
+     * rollingWindow=true이면 모든 모드에서 누적 금액 대신 최근 3개월 월간 집계 합계로 평가합니다.
+     * 두 옵션의 조합과 즉시 승급과의 조합은 membershipGradeJobParametersValidator가 거절합니다.
+     * - 그 외(기본값): 단일 스레드 청크 처리 (membershipGradeStep)
+     * 평가 Step 이후 membershipGradeCacheRefreshStep 에서 등급이 바뀐 사용자의 캐시를 갱신하며,
+     * Job이 완료되지 못하면 멤버십 응답 캐시를 전체 무효화합니다.
      *
      * @param membershipGradeStep 멤버십 등급 평가 Step
+     * @param membershipGradePartitionStep 파티션 병렬 등급 평가 Step
+     * @param membershipGradeCursorStep 커서 스트리밍 등급 평가 Step
+     * @param membershipGradeSqlStep SQL 일괄 등급 평가 Step
+     * @param membershipGradeCacheRefreshStep 캐시 갱신 Step
      * @return Job
      */
     @Bean
-    public Job membershipGradeJob(Step membershipGradeStep) {
+    public Job membershipGradeJob(Step membershipGradeStep, Step membershipGradePartitionStep,
+                                  Step membershipGradeCursorStep, Step membershipGradeSqlStep,
+                                  Step membershipGradeCacheRefreshStep) {
+        JobExecutionDecider gradeModeDecider = membershipGradeModeDecider();
         return new JobBuilder("membershipGradeJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
-                .start(membershipGradeStep)
+                .validator(membershipGradeJobParametersValidator())
+                .listener(membershipGradeHighWaterMarkListener())
+                .listener(membershipGradeCacheInvalidationListener())
+                .listener(membershipGradeChangeTracker())
+                .start(gradeModeDecider)
+                    .on("PARTITIONED").to(membershipGradePartitionStep).next(membershipGradeCacheRefreshStep)
+                .from(gradeModeDecider)
+                    .on("CURSOR").to(membershipGradeCursorStep).next(membershipGradeCacheRefreshStep)
+                .from(gradeModeDecider)
+                    .on("SQL").to(membershipGradeSqlStep).next(membershipGradeCacheRefreshStep)
+                .from(gradeModeDecider)
+                    .on("*").to(membershipGradeStep).next(membershipGradeCacheRefreshStep)
+                .end()
                 .build();
     }
 
+    /**
+     * 평가 기준이 서로 맞지 않는 Job 파라미터 조합을 실행 전에 거절하는 Validator를 정의합니다.
+     * - rollingWindow + incremental: 평가 기간에서 빠지는 달은 SumOrder 갱신을 남기지 않으므로,
+     *   주문이 없는 멤버십은 증분 대상에 들지 못해 강등되지 않습니다.
+     * - rollingWindow + 즉시 승급(membership.inline-promotion.enabled): 즉시 승급은 누적 금액 기준이라
+     *   배치와 주문 처리의 등급 기준이 서로 달라집니다.
+     *
+     * @return JobParametersValidator
+     */
+    @Bean
+    public JobParametersValidator membershipGradeJobParametersValidator() {
+        return parameters -> {
+            if (parameters == null) {
+                return;
+            }
+            String rollingWindowParameter = parameters.getString("rollingWindow");
+            boolean rollingWindow = rollingWindowParameter != null
+                    ? Boolean.parseBoolean(rollingWindowParameter) : properties.isRollingWindow();
+            if (!rollingWindow) {
+                return;
+            }
+            if (Boolean.parseBoolean(parameters.getString("incremental"))) {
+                throw new JobParametersInvalidException(
+                        "rollingWindow 평가는 incremental 평가와 함께 쓸 수 없습니다. (기간에서 빠진 달의 강등이 누락됨)");
+            }
+            if (inlinePromotionEnabled) {
+                throw new JobParametersInvalidException(
+                        "rollingWindow 평가는 membership.inline-promotion.enabled 와 함께 쓸 수 없습니다. (즉시 승급은 누적 금액 기준)");
+            }
+        };
+    }
+
+    /**
+     * 증분 평가 기준 시각(high-water mark)을 기록/조회하는 JobExecutionListener를 정의합니다.
+     *
+     * @return MembershipGradeHighWaterMarkListener
+     */
+    @Bean
+    public MembershipGradeHighWaterMarkListener membershipGradeHighWaterMarkListener() {
+        return new MembershipGradeHighWaterMarkListener(jobExplorer, properties.getHighWaterMarkSafetyMargin());
+    }
+
+    /**
+     * Job 종료 시 멤버십 응답 캐시를 무효화하는 JobExecutionListener를 정의합니다.
+     *
+     * @return MembershipGradeCacheInvalidationListener
+     */
+    @Bean
+    public MembershipGradeCacheInvalidationListener membershipGradeCacheInvalidationListener() {
+        return new MembershipGradeCacheInvalidationListener(membershipResponseCache);
+    }
+
+    /**
+     * Job 실행 중 등급이 바뀐 사용자 ID를 모으는 JobExecutionListener를 정의합니다.
+     *
+     * @return MembershipGradeChangeTracker
+     */
+    @Bean
+    public MembershipGradeChangeTracker membershipGradeChangeTracker() {
+        return new MembershipGradeChangeTracker(properties.getMaxTrackedUsers());
+    }
+
+    /**
+     * 등급 평가 후 바뀐 사용자의 멤버십 응답 캐시를 갱신하는 Step을 정의합니다.
+     *
+     * @return Step
+     */
+    @Bean
+    public Step membershipGradeCacheRefreshStep() {
+        return new StepBuilder("membershipGradeCacheRefreshStep", jobRepository)
+                .tasklet(membershipGradeCacheRefreshTasklet(null, null), transactionManager)
+                .build();
+    }
+
+    /**
+     * 등급이 바뀐 사용자의 캐시를 일괄 갱신하는 Tasklet을 정의합니다.
+     * - cacheRefresh=EVICT: 바뀐 사용자의 캐시를 삭제합니다.
+     * - 그 외(기본값 WARM): 바뀐 사용자의 최신 멤버십을 조회해 캐시에 채웁니다.
+     * 바뀐 사용자를 알 수 없으면(SQL 모드, 추적 한도 초과) 캐시를 전체 무효화합니다.
+     *
+     * @param cacheRefresh 캐시 갱신 방식 (Job 파라미터)
+     * @param jobExecutionId Job 실행 ID
+     * @return MembershipGradeCacheRefreshTasklet
+     */
+    @Bean
+    @StepScope
+    public MembershipGradeCacheRefreshTasklet membershipGradeCacheRefreshTasklet(
+            @Value("#{jobParameters['cacheRefresh']}") String cacheRefresh,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        return new MembershipGradeCacheRefreshTasklet(membershipRepository, membershipResponseCache,
+                membershipGradeChangeTracker().getChangedUserIds(jobExecutionId).orElse(null),
+                "EVICT".equalsIgnoreCase(cacheRefresh),
+                properties.getCacheRefreshBatchSize());
+    }
+
+    /**
+     * Job 파라미터 gradeMode 값을 FlowExecutionStatus로 반환하는 Decider를 정의합니다.
+     *
+     * @return JobExecutionDecider
+     */
+    @Bean
+    public JobExecutionDecider membershipGradeModeDecider() {
+        return (jobExecution, stepExecution) -> {
+            String gradeMode = jobExecution.getJobParameters().getString("gradeMode");
+            return new FlowExecutionStatus(gradeMode == null ? "CHUNK" : gradeMode.toUpperCase());
+        };
+    }
+
     /**
      * 멤버십 등급을 평가하는 Step을 정의합니다.
-     * - Reader: 모든 멤버십 정보를 페이징하여 읽어옵니다.
-     * - Processor: 각 멤버십에 대해 누적 주문 금액을 계산하고 등급을 평가합니다.
-     * - Writer: 변경된 멤버십 정보를 DB에 저장합니다.
+     * - Reader: 모든 멤버십 정보를 페이징하여 읽어옵니다. (Job 파라미터 readerType으로 선택)
+     * - Processor: 청크 단위로 누적 주문 금액을 일괄 조회하고 등급을 평가합니다. (deltaOnly 시 변경분만 전달)
+     * - Writer: 변경된 멤버십 정보를 DB에 저장합니다. (Job 파라미터 writerType으로 선택)
+     * 청크 크기는 Job 파라미터 chunkSize(기본값 batch.membership-grade.chunk-size)로 지정하며,
+     * adaptiveChunk=true이면 청크 처리 시간에 따라 자동 조절합니다.
+     *
+     * @param chunkSize 청크 크기 (Job 파라미터)
+     * @param adaptiveChunk 청크 크기 자동 조절 여부 (Job 파라미터)
+     * @return Step
+     */
+    @Bean
+    @JobScope
+    public Step membershipGradeStep(
+            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
+            @Value("#{jobParameters['adaptiveChunk']}") Boolean adaptiveChunk) {
+        return buildGradeChunkStep("membershipGradeStep", chunkSize, adaptiveChunk);
+    }
+
+    /**
+     * id 구간별 파티션으로 멤버십 등급 평가를 병렬 실행하는 Manager Step을 정의합니다.
+     * - gridSize: 파티션 수 (Job 파라미터, 기본값 poolSize)
+     * - poolSize: Worker 스레드 수 (Job 파라미터, 기본값 CPU 코어 수)
+     *
+     * 파티션 하나(id 구간)를 처리하는 Worker Step은 Job 실행마다 청크 설정을 반영하여 생성하며,
+     * Reader/Processor/Writer는 @StepScope로 파티션마다 별도 인스턴스가 생성됩니다.
      *
+     * @param gridSize 파티션 수
+     * @param poolSize Worker 스레드 수
+     * @param chunkSize 청크 크기 (Job 파라미터)
+     * @param adaptiveChunk 청크 크기 자동 조절 여부 (Job 파라미터)
      * @return Step
      */
     @Bean
-    public Step membershipGradeStep() {
-   
-        return new StepBuilder("membershipGradeStep", jobRepository)
-                .<Membership, Membership>chunk(CHUNK_SIZE, transactionManager)
-                .reader(membershipItemReader())
-                .processor(new MembershipGradeProcessor(sumOrderRepository))
-                .writer(new MembershipGradeWriter(membershipRepository))
+    @JobScope
+    public Step membershipGradePartitionStep(
+            @Value("#{jobParameters['gridSize']}") Integer gridSize,
+            @Value("#{jobParameters['poolSize']}") Integer poolSize,
+            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
+            @Value("#{jobParameters['adaptiveChunk']}") Boolean adaptiveChunk) {
+        int threads = poolSize != null ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new StepBuilder("membershipGradePartitionStep", jobRepository)
+                .partitioner("membershipGradeWorkerStep", new ColumnRangePartitioner(jdbcTemplate, "id", List.of("members"),
+                        PARTITION_MIN_ID_KEY, PARTITION_MAX_ID_KEY))
+                .step(buildGradeChunkStep("membershipGradeWorkerStep", chunkSize, adaptiveChunk))
+                .gridSize(gridSize != null ? gridSize : threads)
+                .taskExecutor(membershipGradeTaskExecutor(null, false))
                 .build();
     }
 
     /**
-     * 모든 멤버십 정보를 페이징하여 읽어오는 ItemReader를 정의합니다.
+     * 파티션 Worker Step을 실행할 TaskExecutor를 정의합니다.
+     * Job 실행마다 생성되며 Job 종료 시 스레드 풀도 함께 종료됩니다. (@JobScope)
+     * spring.threads.virtual.enabled 이고 Java 21 이상이면 가상 스레드를 사용하며, 동시 실행 수는 poolSize로 제한합니다.
+     *
+     * @param poolSize Worker 스레드 수 (Job 파라미터, 기본값 CPU 코어 수)
+     * @param virtualThreadsEnabled 가상 스레드 사용 여부
+     * @return TaskExecutor
+     */
+    @Bean
+    @JobScope
+    public TaskExecutor membershipGradeTaskExecutor(
+            @Value("#{jobParameters['poolSize']}") Integer poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        return PartitionTaskExecutors.create("membership-grade-", poolSize, virtualThreadsEnabled);
+    }
+
+    /**
+     * members와 sum_orders를 조인한 결과를 커서로 스트리밍하여 등급을 평가하는 Step을 정의합니다.
+     * 엔티티 대신 경량 데이터(MembershipGradeItem)를 사용하므로 영속성 컨텍스트와 페이지 조회 비용이 없습니다.
+     *
+     * @param chunkSize 청크 크기 (Job 파라미터)
+     * @param adaptiveChunk 청크 크기 자동 조절 여부 (Job 파라미터)
+     * @return Step
+     */
+    @Bean
+    @JobScope
+    public Step membershipGradeCursorStep(
+            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
+            @Value("#{jobParameters['adaptiveChunk']}") Boolean adaptiveChunk) {
+        return this.<MembershipGradeItem, MembershipGradeItem>chunkStepBuilder("membershipGradeCursorStep", chunkSize, adaptiveChunk)
+                .reader(membershipGradeCursorReader(null, null, null, null))
+                .processor(membershipGradeItemProcessor(null, null))
+                .writer(membershipGradeItemWriter())
+                .build();
+    }
+
+    /**
+     * members LEFT JOIN sum_orders 결과를 스트리밍으로 읽어오는 커서 Reader를 정의합니다.
+     * 커서 전용 DataSource(useCursorFetch=true)와 fetchSize로 MySQL 서버 커서를 사용하여 힙 사용량을 일정하게 유지합니다.
+     *
+     * incremental=true이면 기준 시각(since) 이후 누적 주문이 갱신된 멤버십만 읽습니다. (기준 시각이 없으면 전체)
+     * 실행 중에도 주문 처리로 조건을 만족하는 row가 늘어나므로,
+     * 읽은 건수만큼 건너뛰는 재시작 대신 처음부터 다시 읽습니다. (saveState=false, 이미 평가된 멤버십은 같은 등급으로 재평가)
+     * rollingWindow=true이면 누적 금액 대신 평가 기간 monthly_order_sums 버킷을 사용자별로 합산하여 조인합니다.
      *
-     * @return JpaPagingItemReader<Membership>
+     * @param fetchSize fetch 크기 (Job 파라미터, 기본값 batch.membership-grade.fetch-size)
+     * @param incremental 증분 평가 여부 (Job 파라미터)
+     * @param rollingWindow 평가 기간 합산 여부 (Job 파라미터, 기본값 batch.membership-grade.rolling-window)
+     * @param since 증분 기준 시각 (MembershipGradeHighWaterMarkListener가 기록)
+     * @return JdbcCursorItemReader<MembershipGradeItem>
      */
     @Bean
-    public JpaPagingItemReader<Membership> membershipItemReader() {
+    @StepScope
+    public JdbcCursorItemReader<MembershipGradeItem> membershipGradeCursorReader(
+            @Value("#{jobParameters['fetchSize']}") Integer fetchSize,
+            @Value("#{jobParameters['incremental']}") Boolean incremental,
+            @Value("#{jobParameters['rollingWindow']}") Boolean rollingWindow,
+            @Value("#{jobExecutionContext['" + MembershipGradeHighWaterMarkListener.SINCE_KEY + "']}") String since) {
+        String amountColumn = "COALESCE(s.total_amount, 0)";
+        String windowJoin = "";
+        List<Object> queryArguments = new ArrayList<>();
+        if (rollingWindow != null ? rollingWindow : properties.isRollingWindow()) {
+            amountColumn = "COALESCE(w.total_amount, 0)";
+            windowJoin = "LEFT JOIN (SELECT user_id, SUM(total_amount) AS total_amount FROM monthly_order_sums "
+                    + "WHERE order_month BETWEEN ? AND ? GROUP BY user_id) w ON w.user_id = m.user_id ";
+            queryArguments.add(MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationStartMonth()));
+            queryArguments.add(MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationEndMonth()));
+        }
+
+        String where = "";
+        if (Boolean.TRUE.equals(incremental) && since != null) {
+            where = "WHERE s.updated_at > ? ";
+            queryArguments.add(Timestamp.valueOf(LocalDateTime.parse(since)));
+        }
+
+        return new JdbcCursorItemReaderBuilder<MembershipGradeItem>()
+                .name("membershipGradeCursorReader")
+                .dataSource(cursorDataSource)
+                .sql("SELECT m.id, m.user_id, m.grade, " + amountColumn + " AS total_amount "
+                        + "FROM members m LEFT JOIN sum_orders s ON s.user_id = m.user_id "
+                        + windowJoin
+                        + where
+                        + "ORDER BY m.id ASC")
+                .queryArguments(queryArguments)
+                .fetchSize(fetchSize != null ? fetchSize : properties.getFetchSize())
+                .saveState(!Boolean.TRUE.equals(incremental))
+                .rowMapper((rs, rowNum) -> new MembershipGradeItem(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        MembershipGrade.valueOf(rs.getString("grade")),
+                        rs.getInt("total_amount")))
+                .build();
+    }
+
+    /**
+     * 커서 Step에서 조인된 누적 주문 금액으로 등급을 평가하는 ItemProcessor를 정의합니다.
+     *
+     * @param deltaOnly 변경분만 저장할지 여부 (Job 파라미터)
+     * @param jobExecutionId 등급 변경을 기록할 Job 실행 ID
+     * @return MembershipGradeItemProcessor
+     */
+    @Bean
+    @StepScope
+    public MembershipGradeItemProcessor membershipGradeItemProcessor(
+            @Value("#{jobParameters['deltaOnly']}") Boolean deltaOnly,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        return new MembershipGradeItemProcessor(Boolean.TRUE.equals(deltaOnly),
+                membershipGradeChangeTracker().track(jobExecutionId));
+    }
+
+    /**
+     * 커서 Step의 등급 평가 결과를 JDBC 배치 UPDATE로 저장하는 Writer를 정의합니다.
+     *
+     * @return JdbcBatchItemWriter<MembershipGradeItem>
+     */
+    @Bean
+    public JdbcBatchItemWriter<MembershipGradeItem> membershipGradeItemWriter() {
+        return new JdbcBatchItemWriterBuilder<MembershipGradeItem>()
+                .dataSource(dataSource)
+                .sql("UPDATE members SET grade = :gradeName, updated_at = :evaluatedAt, "
+                        + "last_evaluation_date = :evaluatedAt, next_evaluation_date = :nextEvaluationDate "
+                        + "WHERE id = :id")
+                .beanMapped()
+                .build();
+    }
+
+    /**
+     * 자바에서 row를 다루지 않고 DB 안에서 UPDATE ... JOIN으로 등급을 일괄 재평가하는 Step을 정의합니다.
+     *
+     * @return Step
+     */
+    @Bean
+    public Step membershipGradeSqlStep() {
+        return new StepBuilder("membershipGradeSqlStep", jobRepository)
+                .tasklet(membershipGradeSqlTasklet(null, null, null, null, null), transactionManager)
+                .build();
+    }
+
+    /**
+     * id 구간 단위로 UPDATE ... JOIN을 실행하는 Tasklet을 정의합니다.
+     * - sliceSize: 한 트랜잭션에서 갱신할 id 구간 크기 (기본값 batch.membership-grade.slice-size)
+     * - deltaOnly=true: 등급이 바뀌는 row만 갱신합니다.
+     * - rollingWindow=true: 누적 금액 대신 평가 기간 월간 집계 합계로 평가합니다. (기본값 batch.membership-grade.rolling-window)
+     *
+     * @param sliceSize id 구간 크기 (Job 파라미터)
+     * @param deltaOnly 변경분만 저장할지 여부 (Job 파라미터)
+     * @param incremental 증분 평가 여부 (Job 파라미터)
+     * @param rollingWindow 평가 기간 합산 여부 (Job 파라미터)
+     * @param since 증분 기준 시각 (MembershipGradeHighWaterMarkListener가 기록)
+     * @return MembershipGradeSqlTasklet
+     */
+    @Bean
+    @StepScope
+    public MembershipGradeSqlTasklet membershipGradeSqlTasklet(
+            @Value("#{jobParameters['sliceSize']}") Long sliceSize,
+            @Value("#{jobParameters['deltaOnly']}") Boolean deltaOnly,
+            @Value("#{jobParameters['incremental']}") Boolean incremental,
+            @Value("#{jobParameters['rollingWindow']}") Boolean rollingWindow,
+            @Value("#{jobExecutionContext['" + MembershipGradeHighWaterMarkListener.SINCE_KEY + "']}") String since) {
+        return new MembershipGradeSqlTasklet(jdbcTemplate,
+                sliceSize != null ? sliceSize : properties.getSliceSize(),
+                Boolean.TRUE.equals(deltaOnly),
+                Boolean.TRUE.equals(incremental),
+                since != null ? LocalDateTime.parse(since) : null,
+                rollingWindow != null ? rollingWindow : properties.isRollingWindow());
+    }
+
+    private Step buildGradeChunkStep(String stepName, Integer chunkSize, Boolean adaptiveChunk) {
+        return this.<Membership, Membership>chunkStepBuilder(stepName, chunkSize, adaptiveChunk)
+                .reader(membershipItemReader(null, null, null, null, null, null, null))
+                .processor(membershipGradeProcessor(null, null, null))
+                .writer(membershipGradeWriter(null, null))
+                .build();
+    }
+
+    /**
+     * 청크 크기 설정을 반영한 SimpleStepBuilder를 생성합니다.
+     * - 고정: chunkSize(Job 파라미터) 또는 batch.membership-grade.chunk-size
+     * - 자동 조절: adaptiveChunk(Job 파라미터) 또는 batch.membership-grade.adaptive.enabled가 true인 경우
+     *   AdaptiveChunkSizePolicy를 CompletionPolicy 겸 ChunkListener로 등록합니다.
+     */
+    private <I, O> SimpleStepBuilder<I, O> chunkStepBuilder(String stepName, Integer chunkSize, Boolean adaptiveChunk) {
+        int initialChunkSize = chunkSize != null ? chunkSize : properties.getChunkSize();
+        boolean adaptive = adaptiveChunk != null ? adaptiveChunk : properties.getAdaptive().isEnabled();
+
+        if (!adaptive) {
+            return new StepBuilder(stepName, jobRepository)
+                    .<I, O>chunk(initialChunkSize, transactionManager);
+        }
+
+        MembershipGradeBatchProperties.Adaptive adaptiveProperties = properties.getAdaptive();
+        AdaptiveChunkSizePolicy chunkSizePolicy = new AdaptiveChunkSizePolicy(initialChunkSize,
+                adaptiveProperties.getMinChunkSize(),
+                adaptiveProperties.getMaxChunkSize(),
+                adaptiveProperties.getTargetChunkMillis());
+        return new StepBuilder(stepName, jobRepository)
+                .<I, O>chunk(chunkSizePolicy, transactionManager)
+                .listener(chunkSizePolicy);
+    }
+
+    /**
+     * 청크 단위로 누적 주문 금액을 조회하여 등급을 평가하는 ItemProcessor를 정의합니다.
+     * 청크별 조회 상태를 가지므로 Step 실행마다 새로 생성합니다. (@StepScope)
+     * ItemReadListener를 구현하고 있어 Step에 리스너로 자동 등록됩니다.
+     * - deltaOnly=true: 등급이 변경된 멤버십만 Writer로 전달합니다.
+     * - rollingWindow=true: 누적 금액 대신 평가 기간 월간 집계 합계로 평가합니다. (기본값 batch.membership-grade.rolling-window)
+     * 등급이 바뀐 사용자 ID는 캐시 갱신 Step을 위해 MembershipGradeChangeTracker에 기록합니다.
+     *
+     * @param deltaOnly 변경분만 저장할지 여부 (Job 파라미터)
+     * @param rollingWindow 평가 기간 합산 여부 (Job 파라미터)
+     * @param jobExecutionId 등급 변경을 기록할 Job 실행 ID
+     * @return MembershipGradeProcessor
+     */
+    @Bean
+    @StepScope
+    public MembershipGradeProcessor membershipGradeProcessor(
+            @Value("#{jobParameters['deltaOnly']}") Boolean deltaOnly,
+            @Value("#{jobParameters['rollingWindow']}") Boolean rollingWindow,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId) {
+        return new MembershipGradeProcessor(sumOrderRepository, monthlyOrderSumRepository,
+                rollingWindow != null ? rollingWindow : properties.isRollingWindow(),
+                Boolean.TRUE.equals(deltaOnly),
+                membershipGradeChangeTracker().track(jobExecutionId));
+    }
+
+    /**
+     * 멤버십 등급을 저장하는 ItemWriter를 정의합니다.
+     * - writerType=JDBC: 청크 단위 JDBC 배치 UPDATE (MembershipGradeJdbcWriter)
+     * - 그 외(기본값): 엔티티 단위 JPA save (MembershipGradeWriter)
+     *
+     * @param writerType Writer 종류 (Job 파라미터)
+     * @param stepExecution 반영 row 수를 기록할 StepExecution
+     * @return ItemWriter<Membership>
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<Membership> membershipGradeWriter(
+            @Value("#{jobParameters['writerType']}") String writerType,
+            @Value("#{stepExecution}") StepExecution stepExecution) {
+        if ("JDBC".equalsIgnoreCase(writerType)) {
+            return new MembershipGradeJdbcWriter(jdbcTemplate, stepExecution);
+        }
+        return new MembershipGradeWriter(membershipRepository);
+    }
+
+    /**
+     * 멤버십 정보를 페이징하여 읽어오는 ItemReader를 정의합니다.
+     * - readerType=KEYSET: id 기준 Keyset 페이징 (MembershipKeysetItemReader)
+     * - 그 외(기본값): LIMIT/OFFSET 페이징 (JpaPagingItemReader)
+     * incremental=true이면 readerType과 관계없이 Keyset 페이징을 사용합니다.
+     * 증분 조건(s.updatedAt > :since)은 실행 중 주문 처리로 만족하는 row가 바뀌므로,
+     * OFFSET 페이징은 앞 페이지의 row 수가 바뀌면 다음 페이지에서 row를 건너뛰거나 중복해서 읽게 됩니다.
+     * 기준 시각이 없으면(첫 증분 실행 등) 전체 멤버십을 평가합니다.
+     * 파티션 Worker Step에서는 StepExecutionContext의 minId ~ maxId 구간만 읽습니다.
+     * 페이지 크기는 pageSize → chunkSize(Job 파라미터) → batch.membership-grade 설정 순으로 결정합니다.
+     *
+     * @param readerType Reader 종류 (Job 파라미터)
+     * @param pageSize 페이지 크기 (Job 파라미터)
+     * @param chunkSize 청크 크기 (Job 파라미터)
+     * @param minId 파티션 시작 id (파티션이 아니면 null)
+     * @param maxId 파티션 종료 id (파티션이 아니면 null)
+     * @param incremental 증분 평가 여부 (Job 파라미터)
+     * @param since 증분 기준 시각 (MembershipGradeHighWaterMarkListener가 기록)
+     * @return ItemStreamReader<Membership>
+     */
+    @Bean
+    @StepScope
+    public ItemStreamReader<Membership> membershipItemReader(
+            @Value("#{jobParameters['readerType']}") String readerType,
+            @Value("#{jobParameters['pageSize']}") Integer pageSize,
+            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
+            @Value("#{stepExecutionContext['" + PARTITION_MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + PARTITION_MAX_ID_KEY + "']}") Long maxId,
+            @Value("#{jobParameters['incremental']}") Boolean incremental,
+            @Value("#{jobExecutionContext['" + MembershipGradeHighWaterMarkListener.SINCE_KEY + "']}") String since) {
+        int readerPageSize = resolvePageSize(pageSize, chunkSize);
+
+        // 증분 평가 조건 (누적 주문이 갱신된 멤버십만)
+        String filterCondition = null;
+        Map<String, Object> filterParameters = new HashMap<>();
+        if (Boolean.TRUE.equals(incremental) && since != null) {
+            filterCondition = CHANGED_SINCE_CONDITION;
+            filterParameters.put("since", LocalDateTime.parse(since));
+        }
+
+        if (filterCondition != null && !"KEYSET".equalsIgnoreCase(readerType)) {
+            log.info("증분 평가는 OFFSET 페이징 시 누락이 생기므로 Keyset Reader로 대체합니다. (readerType={})", readerType);
+        }
+        if (filterCondition != null || "KEYSET".equalsIgnoreCase(readerType)) {
+            return new MembershipKeysetItemReader(entityManagerFactory, readerPageSize,
+                    minId != null ? minId : 0L,
+                    maxId != null ? maxId : Long.MAX_VALUE,
+                    filterCondition, filterParameters);
+        }
+        return membershipPagingItemReader(readerPageSize, minId, maxId, filterCondition, filterParameters);
+    }
+
+    private int resolvePageSize(Integer pageSize, Integer chunkSize) {
+        if (pageSize != null) {
+            return pageSize;
+        }
+        if (properties.getPageSize() != null) {
+            return properties.getPageSize();
+        }
+        return chunkSize != null ? chunkSize : properties.getChunkSize();
+    }
+
+    /**
+     * LIMIT/OFFSET 방식으로 멤버십 정보를 페이징하여 읽어오는 Reader를 생성합니다.
+     * transacted(false)로 읽은 엔티티를 detach 하여, 다음 페이지 조회 시 Reader의 EntityManager가
+     * 변경된 엔티티를 flush 하지 않도록 합니다. (저장은 Writer에서만 수행)
+     */
+    private JpaPagingItemReader<Membership> membershipPagingItemReader(int pageSize, Long minId, Long maxId,
+                                                                       String filterCondition,
+                                                                       Map<String, Object> filterParameters) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameterValues = new HashMap<>(filterParameters);
+
+        if (minId != null && maxId != null) {
+            conditions.add("m.id BETWEEN :minId AND :maxId");
+            parameterValues.put("minId", minId);
+            parameterValues.put("maxId", maxId);
+        }
+        if (filterCondition != null) {
+            conditions.add(filterCondition);
+        }
+
+        String queryString = "SELECT m FROM Membership m"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + " ORDER BY m.id ASC";
+
         return new JpaPagingItemReaderBuilder<Membership>()
                 .name("membershipItemReader")
                 .entityManagerFactory(entityManagerFactory)
-                .pageSize(CHUNK_SIZE)
-                .queryString("SELECT m FROM Membership m ORDER BY m.id ASC")
+                .pageSize(pageSize)
+                .transacted(false)
+                .queryString(queryString)
+                .parameterValues(parameterValues)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.burgerking.membership.batch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 멤버십 등급 평가 배치의 처리 단위 설정입니다. (batch.membership-grade.*)
+ * 같은 이름의 Job 파라미터가 있으면 Job 파라미터가 우선합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.membership-grade")
+public class MembershipGradeBatchProperties {
+
+    /**
+     * 청크 크기(커밋 간격)
+     */
+    private int chunkSize = 100;
+
+    /**
+     * 페이징 Reader의 페이지 크기 (미지정 시 청크 크기)
+     */
+    private Integer pageSize;
+
+    /**
+     * 커서 Reader의 fetch 크기
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * SQL 재평가 모드에서 한 번에 갱신할 id 구간 크기
+     */
+    private long sliceSize = 10000;
+
+    /**
+     * 누적 금액 대신 평가 기간(최근 3개월) 월간 주문 집계 합계로 등급을 평가할지 여부
+     */
+    private boolean rollingWindow = false;
+
+    /**
+     * 증분 평가 high-water mark 를 Job 시작 시각보다 앞당기는 안전 여유 (주문 트랜잭션 최대 시간보다 길게)
+     */
+    private Duration highWaterMarkSafetyMargin = Duration.ofMinutes(1);
+
+    /**
+     * Job 종료 후 캐시 갱신 Step에서 한 번에 조회/갱신할 사용자 수
+     */
+    private int cacheRefreshBatchSize = 1000;
+
+    /**
+     * 캐시 갱신을 위해 기록할 등급 변경 사용자 수 상한 (넘으면 캐시 전체 무효화)
+     */
+    private int maxTrackedUsers = 1000000;
+
+    /**
+     * 청크 처리 시간 기반 청크 크기 자동 조절 설정
+     */
+    private final Adaptive adaptive = new Adaptive();
+
+    @Getter
+    @Setter
+    public static class Adaptive {
+
+        /**
+         * 자동 조절 사용 여부
+         */
+        private boolean enabled = false;
+
+        /**
+         * 최소 청크 크기
+         */
+        private int minChunkSize = 50;
+
+        /**
+         * 최대 청크 크기
+         */
+        private int maxChunkSize = 5000;
+
+        /**
+         * 목표 청크 처리 시간 (밀리초)
+         */
+        private long targetChunkMillis = 1000;
+    }
+}
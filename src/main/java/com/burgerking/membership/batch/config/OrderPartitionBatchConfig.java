@@ -0,0 +1,74 @@
+package com.burgerking.membership.batch.config;
+
+import com.burgerking.membership.batch.tasklet.OrderPartitionMaintenanceTasklet;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * orders 월 파티션 관리 배치 설정
+ */
+@Configuration
+public class OrderPartitionBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderPartitionBatchConfig(
+            JobRepository jobRepository,
+            @Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * orders 다음 달 파티션을 미리 만들고 보관 기간이 지난 파티션을 삭제하는 Job을 정의합니다.
+     *
+     * @return Job
+     */
+    @Bean
+    public Job orderPartitionMaintenanceJob() {
+        return new JobBuilder("orderPartitionMaintenanceJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(orderPartitionMaintenanceStep())
+                .build();
+    }
+
+    /**
+     * 파티션 관리 Step을 정의합니다.
+     * DDL(ALTER TABLE)은 암묵적으로 커밋되므로 트랜잭션 없이 실행합니다. (ResourcelessTransactionManager)
+     *
+     * @return Step
+     */
+    @Bean
+    public Step orderPartitionMaintenanceStep() {
+        return new StepBuilder("orderPartitionMaintenanceStep", jobRepository)
+                .tasklet(orderPartitionMaintenanceTasklet(0, 0), new ResourcelessTransactionManager())
+                .build();
+    }
+
+    /**
+     * 파티션 관리 Tasklet을 정의합니다.
+     * - months-ahead: 현재 월 이후 미리 만들어 둘 월 파티션 수
+     * - retention-months: 주문 보관 개월 수 (0이면 삭제하지 않음)
+     *
+     * @param monthsAhead 미리 만들 월 파티션 수
+     * @param retentionMonths 주문 보관 개월 수
+     * @return OrderPartitionMaintenanceTasklet
+     */
+    @Bean
+    public OrderPartitionMaintenanceTasklet orderPartitionMaintenanceTasklet(
+            @Value("${membership.order.partition.months-ahead:3}") int monthsAhead,
+            @Value("${membership.order.partition.retention-months:0}") int retentionMonths) {
+        return new OrderPartitionMaintenanceTasklet(jdbcTemplate, monthsAhead, retentionMonths);
+    }
+}
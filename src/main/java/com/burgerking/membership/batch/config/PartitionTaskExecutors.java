@@ -0,0 +1,40 @@
+package com.burgerking.membership.batch.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 파티션 Worker Step을 실행할 TaskExecutor 생성
+ */
+final class PartitionTaskExecutors {
+
+    private PartitionTaskExecutors() {
+    }
+
+    /**
+     * 동시 실행 수가 poolSize로 제한된 TaskExecutor를 만듭니다.
+     * spring.threads.virtual.enabled 이고 Java 21 이상이면 가상 스레드를 사용하며, 아니면 고정 크기 스레드 풀을 사용합니다.
+     *
+     * @param threadNamePrefix 스레드 이름 접두사
+     * @param poolSize Worker 스레드 수 (null 이면 CPU 코어 수)
+     * @param virtualThreadsEnabled 가상 스레드 사용 여부
+     * @return TaskExecutor
+     */
+    static TaskExecutor create(String threadNamePrefix, Integer poolSize, boolean virtualThreadsEnabled) {
+        int threads = poolSize != null ? poolSize : Runtime.getRuntime().availableProcessors();
+        if (virtualThreadsEnabled && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(threads); // 커넥션 풀 이상으로 동시에 DB에 붙지 않도록 제한
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,166 @@
+package com.burgerking.membership.batch.config;
+
+import com.burgerking.membership.batch.partitioner.ColumnRangePartitioner;
+import com.burgerking.membership.batch.tasklet.SumOrderRebuildTasklet;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * orders 로부터 누적 주문 집계(sum_orders, monthly_order_sums)를 다시 만드는 배치 설정
+ *
+ * 재집계는 orders 에 남아 있는 주문만으로 집계를 덮어쓰므로, 다음 설정에서는 실행을 거절합니다.
+ * - membership.sum-order.write-behind.enabled: 버퍼에 남은 증분이 재집계와 flush 로 두 번 반영됩니다.
+ * - membership.order.partition.retention-months > 0: 보관 기간이 지나 삭제된 주문이 빠져 누적 금액이 줄어듭니다.
+ */
+@Configuration
+public class SumOrderRebuildBatchConfig {
+
+    private static final String PARTITION_MIN_USER_ID_KEY = "minUserId";
+    private static final String PARTITION_MAX_USER_ID_KEY = "maxUserId";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean writeBehindEnabled;
+    private final int orderRetentionMonths;
+
+    public SumOrderRebuildBatchConfig(
+            JobRepository jobRepository,
+            @Qualifier("membershipTransactionManager") PlatformTransactionManager transactionManager,
+            @Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate,
+            @Value("${membership.sum-order.write-behind.enabled:false}") boolean writeBehindEnabled,
+            @Value("${membership.order.partition.retention-months:0}") int orderRetentionMonths) {
+        this.jobRepository = jobRepository;
+        this.transactionManager = transactionManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.orderRetentionMonths = orderRetentionMonths;
+    }
+
+    /**
+     * 누적 주문 재집계 Job을 정의합니다.
+     * user_id 구간별 파티션을 병렬로 처리하며, 각 파티션은 구간(sliceSize) 단위로 집계/반영합니다.
+     *
+     * @param sumOrderRebuildPartitionStep 파티션 병렬 재집계 Step
+     * @return Job
+     */
+    @Bean
+    public Job sumOrderRebuildJob(Step sumOrderRebuildPartitionStep) {
+        return new JobBuilder("sumOrderRebuildJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .validator(sumOrderRebuildJobParametersValidator())
+                .start(sumOrderRebuildPartitionStep)
+                .build();
+    }
+
+    /**
+     * 재집계 결과가 누적 주문 집계와 달라지는 설정에서 실행을 거절하는 Validator를 정의합니다.
+     * - write-behind 버퍼 사용: 버퍼에 남은 증분은 이미 orders 에 있어 재집계 후 flush 로 한 번 더 더해집니다.
+     * - 주문 보관 기간(retention-months) 사용: 삭제된 파티션의 주문이 빠져 누적 금액과 주문 수가 줄어듭니다.
+     *
+     * @return JobParametersValidator
+     */
+    @Bean
+    public JobParametersValidator sumOrderRebuildJobParametersValidator() {
+        return parameters -> {
+            if (writeBehindEnabled) {
+                throw new JobParametersInvalidException(
+                        "membership.sum-order.write-behind.enabled 사용 중에는 누적 주문 재집계를 실행할 수 없습니다. (버퍼 증분이 두 번 반영됨)");
+            }
+            if (orderRetentionMonths > 0) {
+                throw new JobParametersInvalidException(
+                        "membership.order.partition.retention-months 사용 중에는 누적 주문 재집계를 실행할 수 없습니다. (삭제된 주문이 누적 금액에서 빠짐)");
+            }
+        };
+    }
+
+    /**
+     * user_id 구간별 파티션으로 재집계를 병렬 실행하는 Manager Step을 정의합니다.
+     * - gridSize: 파티션 수 (Job 파라미터, 기본값 poolSize)
+     * - poolSize: Worker 스레드 수 (Job 파라미터, 기본값 CPU 코어 수)
+     *
+     * @param gridSize 파티션 수
+     * @param poolSize Worker 스레드 수
+     * @return Step
+     */
+    @Bean
+    @JobScope
+    public Step sumOrderRebuildPartitionStep(
+            @Value("#{jobParameters['gridSize']}") Integer gridSize,
+            @Value("#{jobParameters['poolSize']}") Integer poolSize) {
+        int threads = poolSize != null ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new StepBuilder("sumOrderRebuildPartitionStep", jobRepository)
+                .partitioner("sumOrderRebuildWorkerStep", new ColumnRangePartitioner(jdbcTemplate, "user_id",
+                        List.of("orders", "sum_orders"), PARTITION_MIN_USER_ID_KEY, PARTITION_MAX_USER_ID_KEY))
+                .step(sumOrderRebuildWorkerStep())
+                .gridSize(gridSize != null ? gridSize : threads)
+                .taskExecutor(sumOrderRebuildTaskExecutor(null, false))
+                .build();
+    }
+
+    /**
+     * 파티션 Worker Step을 실행할 TaskExecutor를 정의합니다.
+     * Job 실행마다 생성되며 Job 종료 시 스레드 풀도 함께 종료됩니다. (@JobScope)
+     * spring.threads.virtual.enabled 이고 Java 21 이상이면 가상 스레드를 사용하며, 동시 실행 수는 poolSize로 제한합니다.
+     *
+     * @param poolSize Worker 스레드 수 (Job 파라미터, 기본값 CPU 코어 수)
+     * @param virtualThreadsEnabled 가상 스레드 사용 여부
+     * @return TaskExecutor
+     */
+    @Bean
+    @JobScope
+    public TaskExecutor sumOrderRebuildTaskExecutor(
+            @Value("#{jobParameters['poolSize']}") Integer poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        return PartitionTaskExecutors.create("sum-order-rebuild-", poolSize, virtualThreadsEnabled);
+    }
+
+    /**
+     * user_id 구간 하나를 재집계하는 Worker Step을 정의합니다.
+     *
+     * @return Step
+     */
+    @Bean
+    public Step sumOrderRebuildWorkerStep() {
+        return new StepBuilder("sumOrderRebuildWorkerStep", jobRepository)
+                .tasklet(sumOrderRebuildTasklet(null, null, null, 0), transactionManager)
+                .build();
+    }
+
+    /**
+     * 파티션 구간을 sliceSize 단위로 재집계하는 Tasklet을 정의합니다.
+     *
+     * @param minUserId 파티션 시작 user_id
+     * @param maxUserId 파티션 종료 user_id
+     * @param sliceSize 한 트랜잭션에서 재집계할 user_id 구간 크기 (Job 파라미터)
+     * @param defaultSliceSize sliceSize Job 파라미터가 없을 때의 구간 크기
+     * @return SumOrderRebuildTasklet
+     */
+    @Bean
+    @StepScope
+    public SumOrderRebuildTasklet sumOrderRebuildTasklet(
+            @Value("#{stepExecutionContext['" + PARTITION_MIN_USER_ID_KEY + "']}") Long minUserId,
+            @Value("#{stepExecutionContext['" + PARTITION_MAX_USER_ID_KEY + "']}") Long maxUserId,
+            @Value("#{jobParameters['sliceSize']}") Long sliceSize,
+            @Value("${batch.sum-order-rebuild.slice-size:1000}") long defaultSliceSize) {
+        return new SumOrderRebuildTasklet(jdbcTemplate, minUserId, maxUserId,
+                sliceSize != null ? sliceSize : defaultSliceSize);
+    }
+}
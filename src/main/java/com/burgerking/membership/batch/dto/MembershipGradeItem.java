@@ -0,0 +1,54 @@
+package com.burgerking.membership.batch.dto;
+
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 커서 기반 등급 평가에서 사용하는 경량 멤버십 데이터
+ * members와 sum_orders를 조인한 row를 영속성 컨텍스트 없이 그대로 담습니다.
+ */
+@Getter
+public class MembershipGradeItem {
+
+    private final Long id;                  // 멤버십 ID
+    private final Long userId;              // 사용자 ID
+    private MembershipGrade grade;          // 멤버십 등급
+    private final Integer totalAmount;      // 누적 주문 금액 (주문 내역이 없으면 0)
+    private LocalDateTime evaluatedAt;      // 등급 평가 일시
+
+    public MembershipGradeItem(Long id, Long userId, MembershipGrade grade, Integer totalAmount) {
+        this.id = id;
+        this.userId = userId;
+        this.grade = grade;
+        this.totalAmount = totalAmount;
+    }
+
+    /**
+     * 멤버십 등급을 갱신합니다. (Membership.updateGrade와 동일한 규칙)
+     * @param newGrade 새롭게 계산된 등급
+     * @param evaluationTime 등급 평가가 진행된 시점
+     * @return 등급이 변경되었는지 여부
+     */
+    public boolean updateGrade(MembershipGrade newGrade, LocalDateTime evaluationTime) {
+        boolean isGradeChanged = this.grade != newGrade;
+        this.grade = newGrade;
+        this.evaluatedAt = evaluationTime;
+        return isGradeChanged;
+    }
+
+    /**
+     * JDBC 파라미터 바인딩용 등급 이름
+     */
+    public String getGradeName() {
+        return grade.name();
+    }
+
+    /**
+     * 다음 등급 평가 일시 (평가 일시 + 1개월)
+     */
+    public LocalDateTime getNextEvaluationDate() {
+        return evaluatedAt.plusMonths(1);
+    }
+}
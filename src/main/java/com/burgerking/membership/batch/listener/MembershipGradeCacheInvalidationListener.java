@@ -0,0 +1,28 @@
+package com.burgerking.membership.batch.listener;
+
+import com.burgerking.membership.cache.MembershipResponseCache;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/**
+ * 멤버십 등급 평가 Job이 완료되지 못했을 때 멤버십 응답 캐시를 무효화하는 JobExecutionListener
+ *
+ * - 정상 완료 시에는 캐시 갱신 Step(MembershipGradeCacheRefreshTasklet)이 바뀐 사용자만 갱신합니다.
+ * - 실패/중단된 실행도 일부 청크의 등급 변경은 커밋되었을 수 있으므로 전체 무효화합니다.
+ */
+public class MembershipGradeCacheInvalidationListener implements JobExecutionListener {
+
+    private final MembershipResponseCache membershipResponseCache;
+
+    public MembershipGradeCacheInvalidationListener(MembershipResponseCache membershipResponseCache) {
+        this.membershipResponseCache = membershipResponseCache;
+    }
+
+    @Override
+    public void afterJob(@SuppressWarnings("null") JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            membershipResponseCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.burgerking.membership.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 멤버십 등급 평가 Job 실행 중 등급이 바뀐 사용자 ID를 모으는 JobExecutionListener
+ *
+ * - 청크 Step의 Processor가 등급 변경 시 사용자 ID를 기록하고, 캐시 갱신 Step이 이를 읽어 갑니다.
+ * - 파티션 Worker 스레드에서도 쓸 수 있도록 Job 실행 ID별 동시성 Set으로 관리합니다. (@JobScope 미사용)
+ * - maxTrackedUsers를 넘으면 더 모으지 않고 "추적 불가"로 표시하며, 이 경우 캐시는 전체 무효화됩니다.
+ * - Job 종료 시 해당 실행의 기록을 버립니다.
+ */
+@Slf4j
+public class MembershipGradeChangeTracker implements JobExecutionListener {
+
+    private final int maxTrackedUsers;
+    private final Map<Long, Set<Long>> changedUserIdsByJobExecutionId = new ConcurrentHashMap<>();
+    private final Set<Long> overflowedJobExecutionIds = ConcurrentHashMap.newKeySet();
+
+    public MembershipGradeChangeTracker(int maxTrackedUsers) {
+        this.maxTrackedUsers = maxTrackedUsers;
+    }
+
+    /**
+     * Job 실행의 등급 변경 추적을 시작하고, 사용자 ID를 기록하는 함수를 반환합니다.
+     * 파티션마다 호출되어도 같은 기록을 공유합니다.
+     *
+     * @param jobExecutionId Job 실행 ID
+     * @return 등급이 바뀐 사용자 ID를 기록하는 함수
+     */
+    public Consumer<Long> track(Long jobExecutionId) {
+        Set<Long> changedUserIds = changedUserIdsByJobExecutionId
+                .computeIfAbsent(jobExecutionId, id -> ConcurrentHashMap.newKeySet());
+        return userId -> {
+            if (changedUserIds.size() >= maxTrackedUsers) {
+                if (overflowedJobExecutionIds.add(jobExecutionId)) {
+                    log.warn("등급 변경 사용자 수가 {} 명을 넘어 추적을 중단합니다. (Job 실행 ID={})", maxTrackedUsers, jobExecutionId);
+                }
+                return;
+            }
+            changedUserIds.add(userId);
+        };
+    }
+
+    /**
+     * Job 실행에서 등급이 바뀐 사용자 ID를 반환합니다.
+     *
+     * @param jobExecutionId Job 실행 ID
+     * @return 등급이 바뀐 사용자 ID (추적하지 않았거나 한도를 넘었으면 empty)
+     */
+    public Optional<Set<Long>> getChangedUserIds(Long jobExecutionId) {
+        if (overflowedJobExecutionIds.contains(jobExecutionId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(changedUserIdsByJobExecutionId.get(jobExecutionId));
+    }
+
+    @Override
+    public void afterJob(@SuppressWarnings("null") JobExecution jobExecution) {
+        changedUserIdsByJobExecutionId.remove(jobExecution.getId());
+        overflowedJobExecutionIds.remove(jobExecution.getId());
+    }
+}
@@ -0,0 +1,85 @@
+package com.burgerking.membership.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 멤버십 등급 평가 Job의 증분 처리 기준 시각(high-water mark)을 관리하는 JobExecutionListener
+ *
+ * - 모든 실행: Job 시작 시각에서 안전 여유(safety margin)를 뺀 시각을 ExecutionContext에 high-water mark로 기록합니다.
+ *   sum_orders.updated_at 은 커밋 전에 기록되므로, Job 시작 직전에 기록되고 시작 후에 커밋된 갱신은
+ *   이번 실행에서도 보이지 않고 다음 실행의 기준 시각보다도 이릅니다. 안전 여유보다 오래 걸린 주문 트랜잭션의 갱신은
+ *   증분 평가에서 빠질 수 있으므로, 안전 여유는 주문 트랜잭션 최대 시간보다 길게 잡습니다.
+ *   재시작(restart) 실행은 이전 실행의 high-water mark를 그대로 유지합니다. (재시작 시각으로 덮어쓰면 첫 실행 이후 갱신분이 누락)
+ * - incremental=true 실행: 최근 완료(COMPLETED)된 실행의 high-water mark를 찾아 평가 기준 시각(since)으로 기록합니다.
+ *   찾지 못하면 since 없이 전체 멤버십을 평가합니다. (deltaOnly 실행은 평가 일시를 갱신하지 않으므로
+ *   members.last_evaluation_date 는 변경분 판단 기준으로 쓸 수 없습니다.)
+ */
+@Slf4j
+public class MembershipGradeHighWaterMarkListener implements JobExecutionListener {
+
+    public static final String HIGH_WATER_MARK_KEY = "membershipGrade.highWaterMark";
+    public static final String SINCE_KEY = "membershipGrade.since";
+
+    private static final int LOOKBACK_INSTANCE_COUNT = 20;
+
+    private final JobExplorer jobExplorer;
+    private final Duration safetyMargin;
+
+    public MembershipGradeHighWaterMarkListener(JobExplorer jobExplorer, Duration safetyMargin) {
+        this.jobExplorer = jobExplorer;
+        this.safetyMargin = safetyMargin;
+    }
+
+    @Override
+    public void beforeJob(@SuppressWarnings("null") JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        if (executionContext.containsKey(HIGH_WATER_MARK_KEY)) {
+            // 재시작: 실패한 실행의 ExecutionContext(기준 시각, since)를 이어받았으므로 그대로 사용
+            log.info("멤버십 등급 평가 재시작 - high-water mark 유지: {}", executionContext.getString(HIGH_WATER_MARK_KEY));
+            return;
+        }
+        executionContext.putString(HIGH_WATER_MARK_KEY, LocalDateTime.now().minus(safetyMargin).toString());
+
+        if (!Boolean.parseBoolean(jobExecution.getJobParameters().getString("incremental"))) {
+            return;
+        }
+
+        LocalDateTime since = findLastHighWaterMark(jobExecution);
+        if (since != null) {
+            executionContext.putString(SINCE_KEY, since.toString());
+        }
+        log.info("멤버십 등급 증분 평가 - 기준 시각: {}", since != null ? since : "없음 (전체 평가)");
+    }
+
+    /**
+     * 최근 Job 인스턴스들 중 완료된 실행의 가장 늦은 high-water mark를 찾습니다.
+     */
+    private LocalDateTime findLastHighWaterMark(JobExecution currentExecution) {
+        String jobName = currentExecution.getJobInstance().getJobName();
+        LocalDateTime lastHighWaterMark = null;
+
+        for (JobInstance jobInstance : jobExplorer.getJobInstances(jobName, 0, LOOKBACK_INSTANCE_COUNT)) {
+            for (JobExecution jobExecution : jobExplorer.getJobExecutions(jobInstance)) {
+                if (jobExecution.getId().equals(currentExecution.getId())
+                        || jobExecution.getStatus() != BatchStatus.COMPLETED
+                        || !jobExecution.getExecutionContext().containsKey(HIGH_WATER_MARK_KEY)) {
+                    continue;
+                }
+                LocalDateTime highWaterMark = LocalDateTime.parse(jobExecution.getExecutionContext().getString(HIGH_WATER_MARK_KEY));
+                if (lastHighWaterMark == null || highWaterMark.isAfter(lastHighWaterMark)) {
+                    lastHighWaterMark = highWaterMark;
+                }
+            }
+        }
+        return lastHighWaterMark;
+    }
+}
@@ -0,0 +1,92 @@
+package com.burgerking.membership.batch.partitioner;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 테이블 컬럼의 MIN/MAX를 기준으로 연속된 값 구간을 나누는 Partitioner
+ * 각 파티션의 ExecutionContext에 구간의 시작/종료 값(포함)을 지정한 키로 담아 Worker Step이 사용합니다.
+ * 여러 테이블을 지정하면 테이블들의 MIN/MAX를 합친 범위를 나눕니다. (각 테이블 컬럼 인덱스의 양 끝만 읽습니다.)
+ */
+@Slf4j
+public class ColumnRangePartitioner implements Partitioner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String column;
+    private final String minKey;
+    private final String maxKey;
+    private final String minMaxSql;
+
+    /**
+     * @param jdbcTemplate JdbcTemplate
+     * @param column 구간을 나눌 숫자 컬럼
+     * @param tables 범위를 조회할 테이블 (하나 이상)
+     * @param minKey 구간 시작 값을 담을 ExecutionContext 키
+     * @param maxKey 구간 종료 값을 담을 ExecutionContext 키
+     */
+    public ColumnRangePartitioner(JdbcTemplate jdbcTemplate, String column, List<String> tables,
+                                  String minKey, String maxKey) {
+        if (tables.isEmpty()) {
+            throw new IllegalArgumentException("범위를 조회할 테이블이 없습니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.column = column;
+        this.minKey = minKey;
+        this.maxKey = maxKey;
+        this.minMaxSql = buildMinMaxSql(column, tables);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Object> minMax = jdbcTemplate.queryForMap(minMaxSql);
+        Number min = (Number) minMax.get("min_value");
+        Number max = (Number) minMax.get("max_value");
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (min == null || max == null) {
+            // 데이터가 없는 경우 빈 구간 하나로 처리
+            partitions.put("partition0", createContext(0L, -1L));
+            return partitions;
+        }
+
+        long minValue = min.longValue();
+        long maxValue = max.longValue();
+
+        long rangeSize = (maxValue - minValue) / gridSize + 1;
+        long start = minValue;
+        int partitionNumber = 0;
+        while (start <= maxValue) {
+            long end = Math.min(start + rangeSize - 1, maxValue);
+            partitions.put("partition" + partitionNumber, createContext(start, end));
+            log.info("파티션 {} - {} {} ~ {}", partitionNumber, column, start, end);
+            start = end + 1;
+            partitionNumber++;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext createContext(long minValue, long maxValue) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(minKey, minValue);
+        context.putLong(maxKey, maxValue);
+        return context;
+    }
+
+    static String buildMinMaxSql(String column, List<String> tables) {
+        if (tables.size() == 1) {
+            return "SELECT MIN(" + column + ") AS min_value, MAX(" + column + ") AS max_value FROM " + tables.get(0);
+        }
+        StringJoiner ranges = new StringJoiner(" UNION ALL ");
+        for (String table : tables) {
+            ranges.add("SELECT MIN(" + column + ") AS min_value, MAX(" + column + ") AS max_value FROM " + table);
+        }
+        return "SELECT MIN(min_value) AS min_value, MAX(max_value) AS max_value FROM (" + ranges + ") ranges";
+    }
+}
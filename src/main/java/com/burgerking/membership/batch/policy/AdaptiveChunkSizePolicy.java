@@ -0,0 +1,105 @@
+package com.burgerking.membership.batch.policy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+
+/**
+ * 청크 처리 시간(읽기~커밋)을 측정하여 커밋 간격(청크 크기)을 조절하는 CompletionPolicy
+ * - 처리 시간이 목표의 절반보다 짧으면 청크 크기를 1.5배로 늘립니다.
+ * - 처리 시간이 목표보다 길면 목표 대비 비율만큼 줄입니다.
+ * 청크 크기는 항상 [minChunkSize, maxChunkSize] 범위를 유지합니다.
+ *
+ * ChunkListener로 Step에 함께 등록해야 측정이 동작합니다.
+ * 측정 시작 시각은 ChunkContext에 저장하므로 파티션 Worker 간에 공유해도 안전합니다.
+ */
+@Slf4j
+public class AdaptiveChunkSizePolicy extends CompletionPolicySupport implements ChunkListener {
+
+    private static final String CHUNK_START_KEY = "adaptiveChunkSizePolicy.startNanos";
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkNanos;
+
+    private volatile int chunkSize;
+
+    /**
+     * @param initialChunkSize 시작 청크 크기
+     * @param minChunkSize 최소 청크 크기
+     * @param maxChunkSize 최대 청크 크기
+     * @param targetChunkMillis 목표 청크 처리 시간 (밀리초)
+     */
+    public AdaptiveChunkSizePolicy(int initialChunkSize, int minChunkSize, int maxChunkSize, long targetChunkMillis) {
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkNanos = targetChunkMillis * 1_000_000L;
+        this.chunkSize = clamp(initialChunkSize);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        // 청크 도중에 크기가 바뀌지 않도록 시작 시점의 크기를 고정
+        return new ChunkSizeContext(parent, chunkSize);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= ((ChunkSizeContext) context).size;
+    }
+
+    @Override
+    public void beforeChunk(@SuppressWarnings("null") ChunkContext context) {
+        context.setAttribute(CHUNK_START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void afterChunk(@SuppressWarnings("null") ChunkContext context) {
+        Object startNanos = context.getAttribute(CHUNK_START_KEY);
+        if (startNanos == null) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - (Long) startNanos;
+        adjust(elapsedNanos);
+    }
+
+    /**
+     * 청크 처리 시간으로 다음 청크 크기를 정합니다. (테스트에서 처리 시간을 직접 넣을 수 있도록 package-private)
+     */
+    void adjust(long elapsedNanos) {
+        int current = chunkSize;
+        int next = current;
+
+        if (elapsedNanos < targetChunkNanos / 2) {
+            next = clamp((int) Math.ceil(current * 1.5));
+        } else if (elapsedNanos > targetChunkNanos) {
+            next = clamp((int) (current * ((double) targetChunkNanos / elapsedNanos)));
+        }
+
+        if (next != current) {
+            chunkSize = next;
+            log.debug("청크 크기 조정: {} -> {} (처리 시간 {}ms)", current, next, elapsedNanos / 1_000_000L);
+        }
+    }
+
+    private int clamp(int size) {
+        return Math.max(minChunkSize, Math.min(maxChunkSize, size));
+    }
+
+    private static class ChunkSizeContext extends RepeatContextSupport {
+
+        private final int size;
+
+        ChunkSizeContext(RepeatContext parent, int size) {
+            super(parent);
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.burgerking.membership.batch.processor;
+
+import com.burgerking.membership.batch.dto.MembershipGradeItem;
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 커서 Reader가 조인해 온 누적 주문 금액으로 등급을 평가하는 ItemProcessor
+ * 추가 조회 없이 메모리에서만 평가합니다.
+ * deltaOnly 모드에서는 등급이 바뀌지 않은 멤버십을 null로 반환하여 Writer 대상에서 제외합니다.
+ * 등급이 바뀐 사용자 ID는 gradeChangeListener로 알립니다. (캐시 갱신 Step에서 사용)
+ */
+@RequiredArgsConstructor
+public class MembershipGradeItemProcessor implements ItemProcessor<MembershipGradeItem, MembershipGradeItem> {
+
+    private final boolean deltaOnly;    // 등급이 변경된 멤버십만 Writer로 전달할지 여부
+    private final Consumer<Long> gradeChangeListener; // 등급이 바뀐 사용자 ID 통지
+
+    @Override
+    public MembershipGradeItem process(@SuppressWarnings("null") MembershipGradeItem item) throws Exception {
+        MembershipGrade newGrade = MembershipGrade.evaluateGrade(item.getTotalAmount());
+        boolean isGradeChanged = item.updateGrade(newGrade, LocalDateTime.now());
+        if (isGradeChanged) {
+            gradeChangeListener.accept(item.getUserId());
+        }
+
+        if (deltaOnly && !isGradeChanged) {
+            return null;
+        }
+        return item;
+    }
+}
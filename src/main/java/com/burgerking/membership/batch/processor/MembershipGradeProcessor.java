@@ -3,44 +3,105 @@ package com.burgerking.membership.batch.processor;
 import com.burgerking.membership.domain.Membership;
 import com.burgerking.membership.domain.SumOrder;
 import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.repository.MonthlyOrderSumRepository;
 import com.burgerking.membership.repository.SumOrderRepository;
+import com.burgerking.membership.util.MembershipDateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ItemReadListener;
 import org.springframework.batch.item.ItemProcessor;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 
 /**
  * 멤버십 등급 평가를 위한 ItemProcessor
  * 사용자별 주문 내역을 기반으로 멤버십 등급을 계산합니다.
+ *
+ * 청크 단위로 동작합니다. Reader가 청크를 읽는 동안(afterRead) 사용자 ID를 모아 두었다가,
+ * 첫 process 호출 시 해당 청크의 SumOrder를 IN 쿼리 한 번으로 조회하여 메모리에서 등급을 평가합니다.
+ * rollingWindow 모드에서는 누적 금액 대신 평가 기간(최근 3개월) MonthlyOrderSum 버킷을
+ * GROUP BY 쿼리 한 번으로 합산하여 평가합니다. 평가 기간은 Step 시작 시점 기준으로 고정합니다.
+ * (청크 상태를 가지므로 Step 실행마다 새 인스턴스를 사용해야 합니다. - @StepScope)
+ *
+ * deltaOnly 모드에서는 등급이 바뀌지 않은 멤버십을 null로 반환하여 Writer 대상에서 제외합니다.
+ * 이 경우 제외된 멤버십의 평가 일시(last/next_evaluation_date)는 갱신되지 않습니다.
+ * (증분 평가는 평가 일시가 아니라 high-water mark 기준으로 대상을 고르므로, 제외된 멤버십이 매번 다시 선택되지 않습니다.)
+ * 등급이 바뀐 사용자 ID는 gradeChangeListener로 알립니다. (캐시 갱신 Step에서 사용)
  */
 @Slf4j
 @RequiredArgsConstructor
-public class MembershipGradeProcessor implements ItemProcessor<Membership, Membership> {
+public class MembershipGradeProcessor implements ItemProcessor<Membership, Membership>, ItemReadListener<Membership> {
 
     private final SumOrderRepository sumOrderRepository;
+    private final MonthlyOrderSumRepository monthlyOrderSumRepository;
+    private final boolean rollingWindow; // 평가 기간 월간 집계 합산으로 평가할지 여부
+    private final boolean deltaOnly;    // 등급이 변경된 멤버십만 Writer로 전달할지 여부
+    private final Consumer<Long> gradeChangeListener; // 등급이 바뀐 사용자 ID 통지
 
+    private final Set<Long> pendingUserIds = new LinkedHashSet<>();     // 아직 누적 금액을 조회하지 않은 사용자 ID
+    private final Map<Long, Integer> totalAmountByUserId = new HashMap<>(); // 현재 청크의 사용자별 누적 주문 금액
+    private final String windowStartMonth = MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationStartMonth());
+    private final String windowEndMonth = MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationEndMonth());
+
+
+    @Override
+    public void afterRead(@SuppressWarnings("null") Membership membership) {
+        pendingUserIds.add(membership.getUserId());
+    }
 
     @Override
     public Membership process(@SuppressWarnings("null") Membership membership) throws Exception {
-        // 해당 사용자의 누적 주문 내역 조회
-        SumOrder sumOrder = sumOrderRepository.findByUserId(
-                membership.getUserId());
-        
-        Integer orderAmount = sumOrder.getTotalAmount();
+        // 청크의 첫 아이템에서 해당 청크 사용자들의 누적 주문 내역을 한 번에 조회
+        if (!pendingUserIds.isEmpty()) {
+            loadTotalAmounts();
+        }
 
-        
+        // 누적 주문 내역이 없는 사용자는 0원으로 평가
+        Integer orderAmount = totalAmountByUserId.getOrDefault(membership.getUserId(), 0);
 
-        log.info("사용자 ID: {}, 주문 누적 금액: {}", membership.getUserId(), sumOrder);
+        log.debug("사용자 ID: {}, 주문 누적 금액: {}", membership.getUserId(), orderAmount);
 
         // 누적 금액에 따른 등급 계산
         MembershipGrade newGrade = MembershipGrade.evaluateGrade(orderAmount);
 
         // 멤버십 등급 갱신
         LocalDateTime evaluationTime = LocalDateTime.now();
-        membership.updateGrade(newGrade, evaluationTime);
+        boolean isGradeChanged = membership.updateGrade(newGrade, evaluationTime);
+        if (isGradeChanged) {
+            gradeChangeListener.accept(membership.getUserId());
+        }
+
+        if (deltaOnly && !isGradeChanged) {
+            // 등급 변화가 없으면 필터링 (StepExecution의 filterCount로 집계)
+            return null;
+        }
 
         return membership;
     }
+
+    /**
+     * 대기 중인 사용자 ID들의 누적 주문 금액을 IN 쿼리 한 번으로 조회합니다.
+     * 이전 청크의 조회 결과는 버립니다.
+     */
+    private void loadTotalAmounts() {
+        totalAmountByUserId.clear();
+        if (rollingWindow) {
+            for (MonthlyOrderSumRepository.UserTotalAmount windowAmount
+                    : monthlyOrderSumRepository.sumTotalAmountByUserIdIn(pendingUserIds, windowStartMonth, windowEndMonth)) {
+                totalAmountByUserId.put(windowAmount.getUserId(), Math.toIntExact(windowAmount.getTotalAmount()));
+            }
+        } else {
+            for (SumOrder sumOrder : sumOrderRepository.findByUserIdIn(pendingUserIds)) {
+                totalAmountByUserId.put(sumOrder.getUserId(), sumOrder.getTotalAmount());
+            }
+        }
+        log.debug("청크 누적 주문 조회 - 사용자 {} 명, 조회 {} 건", pendingUserIds.size(), totalAmountByUserId.size());
+        pendingUserIds.clear();
+    }
 }
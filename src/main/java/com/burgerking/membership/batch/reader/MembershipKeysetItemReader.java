@@ -0,0 +1,131 @@
+package com.burgerking.membership.batch.reader;
+
+import com.burgerking.membership.domain.Membership;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멤버십을 id 기준 Keyset(Seek) 방식으로 페이징하여 읽어오는 ItemReader
+ * OFFSET 대신 마지막으로 읽은 id 이후를 조회(WHERE m.id > :lastId)하므로 테이블 뒤쪽 페이지도 조회 비용이 일정합니다.
+ *
+ * 추가 조건(filterCondition, JPQL 별칭 m)을 지정하면 id 조건과 함께 적용합니다.
+ * 재시작 위치는 ExecutionContext에 마지막으로 반환한 id(lastId)로 저장합니다.
+ * 읽은 엔티티는 detach 되어 반환되며, 저장은 Writer에서 수행합니다.
+ */
+@Slf4j
+public class MembershipKeysetItemReader extends AbstractItemCountingItemStreamItemReader<Membership> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final int pageSize;
+    private final long maxId;
+    private final String queryString;
+    private final Map<String, Object> filterParameters;
+
+    private final Deque<Membership> page = new ArrayDeque<>();
+    private EntityManager entityManager;
+    private long lastFetchedId;     // 다음 페이지 조회 기준 id (버퍼에 담긴 마지막 id)
+    private long lastReturnedId;    // 마지막으로 반환한 id (재시작 위치)
+
+    /**
+     * @param entityManagerFactory 조회에 사용할 EntityManagerFactory
+     * @param pageSize 한 번에 조회할 건수
+     * @param minId 조회 시작 id (포함)
+     * @param maxId 조회 종료 id (포함)
+     * @param filterCondition 추가 JPQL 조건 (없으면 null)
+     * @param filterParameters 추가 조건의 파라미터
+     */
+    public MembershipKeysetItemReader(EntityManagerFactory entityManagerFactory, int pageSize, long minId, long maxId,
+                                      String filterCondition, Map<String, Object> filterParameters) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.pageSize = pageSize;
+        this.maxId = maxId;
+        this.queryString = "SELECT m FROM Membership m WHERE m.id > :lastId AND m.id <= :maxId"
+                + (filterCondition != null ? " AND " + filterCondition : "")
+                + " ORDER BY m.id ASC";
+        this.filterParameters = filterParameters;
+        this.lastFetchedId = minId - 1;
+        this.lastReturnedId = minId - 1;
+        setName("membershipKeysetItemReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        entityManager = entityManagerFactory.createEntityManager();
+    }
+
+    @Override
+    protected Membership doRead() {
+        if (page.isEmpty()) {
+            fetchNextPage();
+        }
+
+        Membership membership = page.poll();
+        if (membership != null) {
+            lastReturnedId = membership.getId();
+        }
+        return membership;
+    }
+
+    @Override
+    protected void doClose() {
+        page.clear();
+        if (entityManager != null) {
+            entityManager.close();
+        }
+    }
+
+    @Override
+    public void open(@SuppressWarnings("null") ExecutionContext executionContext) {
+        super.open(executionContext);
+
+        String lastIdKey = getExecutionContextKey(LAST_ID_KEY);
+        if (executionContext.containsKey(lastIdKey)) {
+            lastReturnedId = executionContext.getLong(lastIdKey);
+            lastFetchedId = lastReturnedId;
+            page.clear();
+            log.info("멤버십 Keyset Reader 재시작 - id {} 이후부터 조회", lastReturnedId);
+        }
+    }
+
+    @Override
+    public void update(@SuppressWarnings("null") ExecutionContext executionContext) {
+        super.update(executionContext);
+        if (isSaveState()) {
+            executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastReturnedId);
+        }
+    }
+
+    /**
+     * 재시작 위치는 open에서 ExecutionContext의 lastId로 복원하므로 읽은 건수만큼 건너뛰지 않습니다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+    }
+
+    private void fetchNextPage() {
+        TypedQuery<Membership> query = entityManager.createQuery(queryString, Membership.class)
+                .setParameter("lastId", lastFetchedId)
+                .setParameter("maxId", maxId)
+                .setMaxResults(pageSize);
+        filterParameters.forEach(query::setParameter);
+
+        List<Membership> memberships = query.getResultList();
+        entityManager.clear();
+
+        if (!memberships.isEmpty()) {
+            lastFetchedId = memberships.get(memberships.size() - 1).getId();
+            page.addAll(memberships);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.burgerking.membership.batch.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * orders 월 파티션 관리 Job을 애플리케이션 시작 시와 매일(maintenance-cron) 실행합니다.
+ * (membership.order.partition.maintenance.enabled, 기본 꺼짐)
+ * 여러 인스턴스가 동시에 REORGANIZE/DROP PARTITION 을 실행하면 충돌하므로 한 인스턴스에서만 켜야 합니다.
+ */
+@Slf4j
+@Component
+public class OrderPartitionMaintenanceScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job orderPartitionMaintenanceJob;
+    private final boolean enabled;
+
+    public OrderPartitionMaintenanceScheduler(
+            JobLauncher jobLauncher,
+            @Qualifier("orderPartitionMaintenanceJob") Job orderPartitionMaintenanceJob,
+            @Value("${membership.order.partition.maintenance.enabled:false}") boolean enabled) {
+        this.jobLauncher = jobLauncher;
+        this.orderPartitionMaintenanceJob = orderPartitionMaintenanceJob;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${membership.order.partition.maintenance.cron:0 0 3 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jobLauncher.run(orderPartitionMaintenanceJob, new JobParametersBuilder()
+                    .addString("time", LocalDateTime.now().toString())
+                    .toJobParameters());
+        } catch (JobExecutionException e) {
+            log.error("orders 파티션 관리 Job 실행 실패 - {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.burgerking.membership.batch.tasklet;
+
+import com.burgerking.membership.cache.MembershipResponseCache;
+import com.burgerking.membership.repository.MembershipRepository;
+import com.burgerking.membership.web.dto.MembershipResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 등급 평가 후 등급이 바뀐 사용자의 멤버십 응답 캐시를 일괄 갱신하는 Tasklet
+ *
+ * - WARM(기본값): batchSize 단위로 최신 멤버십을 IN 조회하여 캐시에 채웁니다. (Redis 파이프라인)
+ * - EVICT: batchSize 단위로 캐시를 삭제하여 다음 조회 시 다시 읽도록 합니다.
+ * - 바뀐 사용자를 알 수 없으면(changedUserIds == null) 캐시를 전체 무효화합니다.
+ * 갱신 후 다른 인스턴스의 로컬 캐시를 비우도록 알리며, 이후 조회는 DB 대신 Redis 에서 채워집니다.
+ */
+@Slf4j
+public class MembershipGradeCacheRefreshTasklet implements Tasklet {
+
+    private final MembershipRepository membershipRepository;
+    private final MembershipResponseCache membershipResponseCache;
+    private final Set<Long> changedUserIds;
+    private final boolean evictOnly;
+    private final int batchSize;
+
+    /**
+     * @param membershipRepository 최신 멤버십을 조회할 Repository
+     * @param membershipResponseCache 갱신할 멤버십 응답 캐시
+     * @param changedUserIds 등급이 바뀐 사용자 ID (알 수 없으면 null)
+     * @param evictOnly 캐시를 채우지 않고 삭제만 할지 여부
+     * @param batchSize 한 번에 조회/갱신할 사용자 수
+     */
+    public MembershipGradeCacheRefreshTasklet(MembershipRepository membershipRepository,
+                                              MembershipResponseCache membershipResponseCache,
+                                              Set<Long> changedUserIds, boolean evictOnly, int batchSize) {
+        this.membershipRepository = membershipRepository;
+        this.membershipResponseCache = membershipResponseCache;
+        this.changedUserIds = changedUserIds;
+        this.evictOnly = evictOnly;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(@SuppressWarnings("null") StepContribution contribution,
+                                @SuppressWarnings("null") ChunkContext chunkContext) {
+        if (changedUserIds == null) {
+            membershipResponseCache.invalidateAll();
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, changedUserIds.size()));
+        for (Long userId : changedUserIds) {
+            batch.add(userId);
+            if (batch.size() >= batchSize) {
+                refresh(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            refresh(batch);
+        }
+
+        if (!changedUserIds.isEmpty()) {
+            membershipResponseCache.broadcastLocalRefresh();
+        }
+        contribution.incrementWriteCount(changedUserIds.size());
+        log.info("멤버십 캐시 {}: {} 명", evictOnly ? "삭제" : "갱신", changedUserIds.size());
+        return RepeatStatus.FINISHED;
+    }
+
+    private void refresh(List<Long> userIds) {
+        if (evictOnly) {
+            membershipResponseCache.evictAll(userIds);
+            return;
+        }
+        List<MembershipResponse> responses = membershipRepository.findByUserIdIn(userIds).stream()
+                .map(MembershipResponse::from)
+                .toList();
+        membershipResponseCache.refreshAll(responses);
+    }
+}
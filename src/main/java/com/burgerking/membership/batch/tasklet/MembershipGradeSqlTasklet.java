@@ -0,0 +1,154 @@
+package com.burgerking.membership.batch.tasklet;
+
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.util.MembershipDateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멤버십 등급을 DB 안에서 UPDATE ... JOIN 한 번으로 재평가하는 Tasklet
+ * 등급 기준 CASE 식은 MembershipGrade enum에서 생성합니다.
+ *
+ * id 구간(sliceSize) 단위로 나누어 실행하며, 구간마다 별도 트랜잭션으로 커밋하여 락 점유 시간을 짧게 유지합니다.
+ * 증분 모드에서는 기준 시각(since) 이후 누적 주문이 갱신된 row만 갱신합니다. (기준 시각이 없으면 전체)
+ * rollingWindow 모드에서는 누적 금액 대신 구간 사용자의 평가 기간 monthly_order_sums 합계로 평가합니다.
+ * 다음 구간의 시작 id를 ExecutionContext에 저장하므로 실패 후 재시작 시 이어서 처리합니다.
+ */
+@Slf4j
+public class MembershipGradeSqlTasklet implements Tasklet {
+
+    private static final String NEXT_ID_KEY = "membershipGradeSqlTasklet.nextId";
+    private static final String MAX_ID_KEY = "membershipGradeSqlTasklet.maxId";
+
+    private static final String MIN_MAX_ID_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM members";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long sliceSize;
+    private final LocalDateTime since;
+    private final boolean rollingWindow;
+    private final String windowStartMonth;
+    private final String windowEndMonth;
+    private final String updateSql;
+
+    /**
+     * @param jdbcTemplate UPDATE를 실행할 JdbcTemplate
+     * @param sliceSize 한 번에 갱신할 id 구간 크기
+     * @param deltaOnly 등급이 바뀌는 row만 갱신할지 여부
+     * @param incremental 누적 주문이 갱신된 row만 갱신할지 여부
+     * @param since 증분 기준 시각 (없으면 전체 row 평가)
+     * @param rollingWindow 누적 금액 대신 평가 기간 월간 주문 집계 합계로 평가할지 여부
+     */
+    public MembershipGradeSqlTasklet(JdbcTemplate jdbcTemplate, long sliceSize, boolean deltaOnly,
+                                     boolean incremental, LocalDateTime since, boolean rollingWindow) {
+        if (incremental && rollingWindow) {
+            throw new IllegalArgumentException("평가 기간(rollingWindow) 평가는 증분(incremental) 평가와 함께 쓸 수 없습니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.sliceSize = sliceSize;
+        this.since = incremental ? since : null;
+        this.rollingWindow = rollingWindow;
+        this.windowStartMonth = MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationStartMonth());
+        this.windowEndMonth = MembershipDateUtils.formatYearMonth(MembershipDateUtils.getEvaluationEndMonth());
+        this.updateSql = buildUpdateSql(deltaOnly, this.since != null, rollingWindow);
+    }
+
+    @Override
+    public RepeatStatus execute(@SuppressWarnings("null") StepContribution contribution,
+                                @SuppressWarnings("null") ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        if (!executionContext.containsKey(MAX_ID_KEY)) {
+            Map<String, Object> minMax = jdbcTemplate.queryForMap(MIN_MAX_ID_SQL);
+            if (minMax.get("min_id") == null) {
+                return RepeatStatus.FINISHED;
+            }
+            executionContext.putLong(NEXT_ID_KEY, ((Number) minMax.get("min_id")).longValue());
+            executionContext.putLong(MAX_ID_KEY, ((Number) minMax.get("max_id")).longValue());
+        }
+
+        long fromId = executionContext.getLong(NEXT_ID_KEY);
+        long maxId = executionContext.getLong(MAX_ID_KEY);
+        if (fromId > maxId) {
+            return RepeatStatus.FINISHED;
+        }
+        long toId = Math.min(fromId + sliceSize - 1, maxId);
+
+        LocalDateTime evaluationTime = LocalDateTime.now();
+        List<Object> args = new ArrayList<>();
+        if (rollingWindow) {
+            args.add(fromId);
+            args.add(toId);
+            args.add(windowStartMonth);
+            args.add(windowEndMonth);
+        }
+        args.add(Timestamp.valueOf(evaluationTime));
+        args.add(Timestamp.valueOf(evaluationTime));
+        args.add(Timestamp.valueOf(evaluationTime.plusMonths(1)));
+        args.add(fromId);
+        args.add(toId);
+        if (since != null) {
+            args.add(Timestamp.valueOf(since));
+        }
+        int updatedRows = jdbcTemplate.update(updateSql, args.toArray());
+
+        contribution.incrementWriteCount(updatedRows);
+        executionContext.putLong(NEXT_ID_KEY, toId + 1);
+        log.info("멤버십 등급 SQL 재평가 - id {} ~ {}, {} 건 반영", fromId, toId, updatedRows);
+
+        return toId >= maxId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * 누적 주문 금액으로 등급을 계산하는 CASE 식을 생성합니다.
+     * MembershipGrade.evaluateGrade와 같이 상위 등급부터 비교합니다.
+     */
+    private static String buildGradeCaseExpression(String amountExpression) {
+        MembershipGrade[] grades = MembershipGrade.values();
+        StringBuilder caseExpression = new StringBuilder("CASE");
+        for (int i = grades.length - 1; i > 0; i--) {
+            caseExpression.append(" WHEN ").append(amountExpression)
+                    .append(" >= ").append(grades[i].getRequiredAmount())
+                    .append(" THEN '").append(grades[i].name()).append("'");
+        }
+        caseExpression.append(" ELSE '").append(MembershipGrade.BRONZE.name()).append("' END");
+        return caseExpression.toString();
+    }
+
+    private static String buildUpdateSql(boolean deltaOnly, boolean hasSince, boolean rollingWindow) {
+        String gradeCase;
+        String join;
+        if (rollingWindow) {
+            // 구간 사용자의 평가 기간 버킷만 합산 (GROUP BY로 구체화되는 파생 테이블이므로 members를 참조해도 됨)
+            gradeCase = buildGradeCaseExpression("COALESCE(w.total_amount, 0)");
+            join = "LEFT JOIN (SELECT o.user_id, SUM(o.total_amount) AS total_amount "
+                    + "FROM monthly_order_sums o JOIN members mm ON mm.user_id = o.user_id "
+                    + "WHERE mm.id BETWEEN ? AND ? AND o.order_month BETWEEN ? AND ? "
+                    + "GROUP BY o.user_id) w ON m.user_id = w.user_id ";
+        } else {
+            gradeCase = buildGradeCaseExpression("COALESCE(s.total_amount, 0)");
+            join = "LEFT JOIN sum_orders s ON m.user_id = s.user_id ";
+        }
+        String sql = "UPDATE members m " + join
+                + "SET m.grade = " + gradeCase + ", "
+                + "m.updated_at = ?, m.last_evaluation_date = ?, m.next_evaluation_date = ? "
+                + "WHERE m.id BETWEEN ? AND ?";
+        if (hasSince) {
+            sql += " AND s.updated_at > ?";
+        }
+        if (deltaOnly) {
+            sql += " AND m.grade <> " + gradeCase;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,146 @@
+package com.burgerking.membership.batch.tasklet;
+
+import com.burgerking.membership.util.MembershipDateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * orders 테이블의 월 단위 RANGE 파티션을 관리하는 Tasklet
+ *
+ * - 추가: 마지막 월 파티션 다음 달부터 (현재 월 + monthsAhead)까지의 월 파티션을 pmax(MAXVALUE)를 나누어 만듭니다.
+ *   pmax 는 아직 만들지 않은 달의 주문을 받는 용도로 항상 마지막에 둡니다.
+ * - 삭제: retentionMonths 가 0보다 크면, 상한이 (현재 월 - retentionMonths) 이전인 파티션을 DROP PARTITION 합니다.
+ *   대량 DELETE 없이 파티션 단위로 보관 기간이 지난 주문을 제거합니다.
+ * - orders 가 파티션 테이블이 아니면(예: ddl-auto로 생성된 스키마) 아무것도 하지 않습니다.
+ */
+@Slf4j
+public class OrderPartitionMaintenanceTasklet implements Tasklet {
+
+    private static final String TABLE_NAME = "orders";
+    private static final String MAX_PARTITION_NAME = "pmax";
+    private static final String MAX_VALUE = "MAXVALUE";
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMATTER =
+            DateTimeFormatter.ofPattern(MembershipDateUtils.DEFAULT_DATETIME_FORMAT);
+
+    private static final String PARTITIONS_SQL =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                    + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Clock clock;
+
+    /**
+     * @param jdbcTemplate DDL을 실행할 JdbcTemplate
+     * @param monthsAhead 현재 월 이후 미리 만들어 둘 월 파티션 수
+     * @param retentionMonths 주문 보관 개월 수 (0이면 삭제하지 않음)
+     */
+    public OrderPartitionMaintenanceTasklet(JdbcTemplate jdbcTemplate, int monthsAhead, int retentionMonths) {
+        this(jdbcTemplate, monthsAhead, retentionMonths, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 현재 월을 정할 시계를 지정하는 생성자입니다. (테스트용)
+     */
+    OrderPartitionMaintenanceTasklet(JdbcTemplate jdbcTemplate, int monthsAhead, int retentionMonths, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    @Override
+    public RepeatStatus execute(@SuppressWarnings("null") StepContribution contribution,
+                                @SuppressWarnings("null") ChunkContext chunkContext) {
+        List<Partition> partitions = jdbcTemplate.query(PARTITIONS_SQL,
+                (rs, rowNum) -> new Partition(rs.getString("PARTITION_NAME"), parseBound(rs.getString("PARTITION_DESCRIPTION"))),
+                TABLE_NAME);
+        if (partitions.isEmpty()) {
+            log.info("{} 테이블이 파티션 테이블이 아니어서 파티션 관리를 건너뜁니다.", TABLE_NAME);
+            return RepeatStatus.FINISHED;
+        }
+
+        YearMonth currentMonth = YearMonth.now(clock);
+        addMonthlyPartitions(partitions, currentMonth);
+        dropExpiredPartitions(partitions, currentMonth);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * pmax 를 (새 월 파티션들 + pmax)로 재구성합니다. pmax 에 해당 월 주문이 있으면 새 파티션으로 옮겨집니다.
+     */
+    private void addMonthlyPartitions(List<Partition> partitions, YearMonth currentMonth) {
+        Partition last = partitions.get(partitions.size() - 1);
+        if (!MAX_PARTITION_NAME.equals(last.name()) || last.upperBound() != null) {
+            log.warn("{} 테이블의 마지막 파티션이 {}(MAXVALUE)가 아니어서 월 파티션을 추가하지 않습니다.", TABLE_NAME, MAX_PARTITION_NAME);
+            return;
+        }
+
+        LocalDateTime highestBound = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        YearMonth fromMonth = highestBound != null ? YearMonth.from(highestBound) : currentMonth;
+        YearMonth untilMonth = currentMonth.plusMonths(monthsAhead);
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = fromMonth; !month.isAfter(untilMonth); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME_FORMATTER)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1).atStartOfDay().format(BOUND_FORMATTER) + "')");
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + MAX_PARTITION_NAME + " VALUES LESS THAN (" + MAX_VALUE + ")");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + MAX_PARTITION_NAME
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("{} 월 파티션 추가: {} ~ {}", TABLE_NAME, fromMonth, untilMonth);
+    }
+
+    private void dropExpiredPartitions(List<Partition> partitions, YearMonth currentMonth) {
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        LocalDateTime cutoff = currentMonth.minusMonths(retentionMonths).atDay(1).atStartOfDay();
+        List<String> expired = partitions.stream()
+                .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoff))
+                .map(Partition::name)
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + String.join(", ", expired));
+        log.info("{} 보관 기간({} 개월) 만료 파티션 삭제: {}", TABLE_NAME, retentionMonths, expired);
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 상한('yyyy-MM-dd HH:mm:ss')을 파싱합니다. MAXVALUE 이면 null 을 반환합니다.
+     */
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || MAX_VALUE.equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDateTime.parse(description.replace("'", ""), BOUND_FORMATTER);
+    }
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+}
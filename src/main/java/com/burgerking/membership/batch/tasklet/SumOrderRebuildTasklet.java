@@ -0,0 +1,103 @@
+package com.burgerking.membership.batch.tasklet;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * orders 로부터 sum_orders, monthly_order_sums 를 다시 집계하는 Tasklet
+ *
+ * user_id 구간(sliceSize) 단위로 DB 안에서 GROUP BY user_id 집계 결과를 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 로
+ * 덮어쓰며, 구간마다 별도 트랜잭션으로 커밋합니다. 값이 같은 row는 갱신하지 않으므로 updated_at 이 바뀌지 않습니다.
+ * 구간 안에서 주문이 하나도 없는 사용자/월의 집계는 0으로 맞춥니다.
+ *
+ * 운영 중 실행: 기본 격리 수준(REPEATABLE READ)에서 INSERT ... SELECT 는 읽은 orders 구간에 잠금을 걸므로,
+ * 그 사이 들어온 주문은 구간 커밋 후 upsert 되어 재집계 값 위에 더해집니다. (구간이 작을수록 대기 시간이 짧습니다.)
+ * 단, write-behind 버퍼에 남은 증분은 이미 orders 에 있어 재집계와 flush 로 두 번 반영되고, 보관 기간이 지나 삭제된 주문은
+ * 집계에서 빠지므로, 두 설정 중 하나라도 사용 중이면 Job 이 실행을 거절합니다. (SumOrderRebuildBatchConfig)
+ * 다음 구간의 시작 user_id를 ExecutionContext에 저장하므로 실패 후 재시작 시 이어서 처리합니다.
+ */
+@Slf4j
+public class SumOrderRebuildTasklet implements Tasklet {
+
+    private static final String NEXT_USER_ID_KEY = "sumOrderRebuildTasklet.nextUserId";
+
+    private static final String REBUILD_SUM_ORDERS_SQL =
+            "INSERT INTO sum_orders (user_id, total_amount, order_count, created_at, updated_at) "
+                    + "SELECT user_id, SUM(order_amount), COUNT(*), ?, ? FROM orders "
+                    + "WHERE user_id BETWEEN ? AND ? GROUP BY user_id "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "updated_at = IF(total_amount = VALUES(total_amount) AND order_count = VALUES(order_count), "
+                    + "updated_at, VALUES(updated_at)), "
+                    + "total_amount = VALUES(total_amount), order_count = VALUES(order_count)";
+    private static final String RESET_SUM_ORDERS_SQL =
+            "UPDATE sum_orders s SET s.total_amount = 0, s.order_count = 0, s.updated_at = ? "
+                    + "WHERE s.user_id BETWEEN ? AND ? AND s.order_count <> 0 "
+                    + "AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.user_id = s.user_id)";
+    private static final String REBUILD_MONTHLY_ORDER_SUMS_SQL =
+            "INSERT INTO monthly_order_sums (user_id, order_month, total_amount, order_count, created_at, updated_at) "
+                    + "SELECT user_id, DATE_FORMAT(order_date, '%Y-%m'), SUM(order_amount), COUNT(*), ?, ? FROM orders "
+                    + "WHERE user_id BETWEEN ? AND ? GROUP BY user_id, DATE_FORMAT(order_date, '%Y-%m') "
+                    + "ON DUPLICATE KEY UPDATE "
+                    + "updated_at = IF(total_amount = VALUES(total_amount) AND order_count = VALUES(order_count), "
+                    + "updated_at, VALUES(updated_at)), "
+                    + "total_amount = VALUES(total_amount), order_count = VALUES(order_count)";
+    private static final String RESET_MONTHLY_ORDER_SUMS_SQL =
+            "UPDATE monthly_order_sums m SET m.total_amount = 0, m.order_count = 0, m.updated_at = ? "
+                    + "WHERE m.user_id BETWEEN ? AND ? AND m.order_count <> 0 "
+                    + "AND NOT EXISTS (SELECT 1 FROM orders o WHERE o.user_id = m.user_id "
+                    + "AND o.order_date >= CAST(CONCAT(m.order_month, '-01') AS DATETIME) "
+                    + "AND o.order_date < CAST(CONCAT(m.order_month, '-01') AS DATETIME) + INTERVAL 1 MONTH)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minUserId;
+    private final long maxUserId;
+    private final long sliceSize;
+
+    /**
+     * @param jdbcTemplate 집계를 실행할 JdbcTemplate
+     * @param minUserId 재집계할 시작 user_id (포함)
+     * @param maxUserId 재집계할 종료 user_id (포함)
+     * @param sliceSize 한 트랜잭션에서 재집계할 user_id 구간 크기
+     */
+    public SumOrderRebuildTasklet(JdbcTemplate jdbcTemplate, long minUserId, long maxUserId, long sliceSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minUserId = minUserId;
+        this.maxUserId = maxUserId;
+        this.sliceSize = sliceSize;
+    }
+
+    @Override
+    public RepeatStatus execute(@SuppressWarnings("null") StepContribution contribution,
+                                @SuppressWarnings("null") ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        long fromUserId = executionContext.containsKey(NEXT_USER_ID_KEY)
+                ? executionContext.getLong(NEXT_USER_ID_KEY)
+                : minUserId;
+        if (fromUserId > maxUserId) {
+            return RepeatStatus.FINISHED;
+        }
+        long toUserId = Math.min(fromUserId + sliceSize - 1, maxUserId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int sumOrderRows = jdbcTemplate.update(REBUILD_SUM_ORDERS_SQL, now, now, fromUserId, toUserId)
+                + jdbcTemplate.update(RESET_SUM_ORDERS_SQL, now, fromUserId, toUserId);
+        int monthlyRows = jdbcTemplate.update(REBUILD_MONTHLY_ORDER_SUMS_SQL, now, now, fromUserId, toUserId)
+                + jdbcTemplate.update(RESET_MONTHLY_ORDER_SUMS_SQL, now, fromUserId, toUserId);
+
+        contribution.incrementWriteCount(sumOrderRows + monthlyRows);
+        executionContext.putLong(NEXT_USER_ID_KEY, toUserId + 1);
+        log.debug("누적 주문 재집계 - user_id {} ~ {}, sum_orders {} 건, monthly_order_sums {} 건",
+                fromUserId, toUserId, sumOrderRows, monthlyRows);
+
+        return toUserId >= maxUserId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,80 @@
+package com.burgerking.membership.batch.writer;
+
+import com.burgerking.membership.domain.Membership;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멤버십 등급을 JDBC 배치 UPDATE로 저장하는 ItemWriter
+ * 청크 전체를 하나의 배치 UPDATE로 전송하여 엔티티별 merge/dirty check 비용을 없앱니다.
+ * (rewriteBatchedStatements=true 설정 시 드라이버가 한 번의 왕복으로 전송합니다.)
+ *
+ * 반영된 row 수는 StepExecution의 ExecutionContext에 누적합니다.
+ */
+@Slf4j
+public class MembershipGradeJdbcWriter implements ItemWriter<Membership> {
+
+    public static final String UPDATED_ROW_COUNT_KEY = "membershipGradeWriter.updatedRowCount";
+
+    private static final String UPDATE_GRADE_SQL =
+            "UPDATE members SET grade = ?, updated_at = ?, last_evaluation_date = ?, next_evaluation_date = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StepExecution stepExecution;
+
+    public MembershipGradeJdbcWriter(JdbcTemplate jdbcTemplate, StepExecution stepExecution) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public void write(@SuppressWarnings("null") Chunk<? extends Membership> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+        for (Membership membership : chunk) {
+            batchArgs.add(new Object[] {
+                    membership.getGrade().name(),
+                    Timestamp.valueOf(membership.getUpdatedAt()),
+                    Timestamp.valueOf(membership.getLastEvaluationDate()),
+                    Timestamp.valueOf(membership.getNextEvaluationDate()),
+                    membership.getId()
+            });
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_GRADE_SQL, batchArgs);
+        long updatedRows = countUpdatedRows(updateCounts);
+
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putLong(UPDATED_ROW_COUNT_KEY, executionContext.getLong(UPDATED_ROW_COUNT_KEY, 0L) + updatedRows);
+
+        log.info("멤버십 등급 배치 UPDATE - {} 건 요청, {} 건 반영", chunk.size(), updatedRows);
+    }
+
+    /**
+     * 배치 결과의 row 수를 합산합니다.
+     * 드라이버가 개별 결과를 돌려주지 않는 경우(SUCCESS_NO_INFO) id 조건 UPDATE이므로 1건으로 계산합니다.
+     */
+    private long countUpdatedRows(int[] updateCounts) {
+        long updatedRows = 0;
+        for (int count : updateCounts) {
+            if (count > 0) {
+                updatedRows += count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                updatedRows++;
+            }
+        }
+        return updatedRows;
+    }
+}
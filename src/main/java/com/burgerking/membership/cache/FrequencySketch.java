@@ -0,0 +1,77 @@
+package com.burgerking.membership.cache;
+
+/**
+ * 키별 최근 접근 빈도를 근사하는 Count-Min Sketch (TinyLFU 입장 정책용)
+ * - 4개 행의 4비트 카운터(최대 15) 중 최솟값을 빈도로 사용합니다.
+ * - 누적 증가 횟수가 sampleSize 에 도달하면 모든 카운터를 절반으로 줄여 오래된 빈도를 잊습니다.
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 잠금을 잡아야 합니다.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final byte[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param capacity 캐시 최대 크기 (카운터 폭과 초기화 주기의 기준)
+     */
+    FrequencySketch(int capacity) {
+        int width = Integer.highestOneBit(Math.max(16, capacity * 2 - 1)) << 1;
+        this.table = new byte[DEPTH][width];
+        this.mask = width - 1;
+        this.sampleSize = Math.max(16, capacity * 10);
+    }
+
+    /**
+     * 키의 접근 빈도를 1 증가시킵니다.
+     * @param key 키
+     */
+    void increment(long key) {
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(key, i);
+            if (table[i][index] < MAX_COUNT) {
+                table[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 키의 근사 접근 빈도를 반환합니다.
+     * @param key 키
+     * @return 접근 빈도 (0 ~ 15)
+     */
+    int frequency(long key) {
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, table[i][indexOf(key, i)]);
+        }
+        return frequency;
+    }
+
+    private int indexOf(long key, int row) {
+        long hash = (key + SEEDS[row]) * SEEDS[row];
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+
+    private void reset() {
+        for (byte[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+}
@@ -0,0 +1,494 @@
+package com.burgerking.membership.cache;
+
+import com.burgerking.common.util.TransactionUtils;
+import com.burgerking.membership.web.dto.MembershipResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 멤버십 응답 read-through 캐시
+ * - GET /api/membership/{userId} 가 기존 멤버십을 DB 조회 없이 반환하기 위한 용도입니다.
+ * - 1차(로컬): 크기(maximum-size)와 TTL(ttl)이 제한된 W-TinyLFU 입니다. 새 항목은 작은 LRU window(스트라이프 크기의 1%)에
+ *   먼저 들어가고, window 에서 밀려날 때 main LRU 에서 밀려날 항목보다 접근 빈도가 높아야 main 에 들어갑니다.
+ *   (main 은 SLRU 가 아닌 단순 LRU 입니다.) 사용자 ID 단위로 스트라이프를 나눕니다.
+ * - 2차(Redis, redis.enabled): 인스턴스 간 공유 캐시입니다. 키에 세대(generation) 번호를 붙여
+ *   invalidateAll 시 세대만 올려 전체를 한 번에 무효화하며, 다른 인스턴스는 세대 변경을 주기적으로 확인해 로컬 캐시를 비웁니다.
+ * - 등급이 바뀌는 경로(즉시 승급, 등급 평가 배치)는 evict/invalidateAll 로 명시적으로 무효화합니다.
+ *   등급 평가 배치는 바뀐 사용자만 refreshAll/evictAll 로 파이프라인 갱신한 뒤 broadcastLocalRefresh 로
+ *   다른 인스턴스의 로컬 캐시만 비워, 배치 직후 조회가 DB 대신 Redis 에서 채워지도록 합니다.
+ * - loader 가 읽은 값은 그 사이 같은 사용자가 무효화되었으면 캐시하지 않습니다.
+ *   로컬은 사용자 ID 슬롯별 무효화 버전, Redis 는 짧은 TTL 의 무효화 표시(tombstone)로 확인하므로,
+ *   다른 인스턴스에서 일어난 무효화도 승급 전 등급을 다시 캐시하지 못하게 막습니다.
+ */
+@Slf4j
+@Component
+public class MembershipResponseCache {
+
+    private static final int STRIPE_COUNT = 16;
+    private static final int WINDOW_PERCENT = 1; // 스트라이프 크기 중 window 비율
+    private static final String KEY_PREFIX = "MEMBERSHIP:";
+    private static final String GENERATION_KEY = KEY_PREFIX + "GENERATION";
+    private static final String LOCAL_EPOCH_KEY = KEY_PREFIX + "LOCAL_EPOCH";
+    private static final String TOMBSTONE_KEY_PREFIX = KEY_PREFIX + "EVICTED:";
+    private static final int EVICT_VERSION_SLOTS = 4096;
+
+    /**
+     * 무효화 표시(KEYS[2])가 없을 때만 값(KEYS[1])을 저장합니다. 저장했으면 1을 반환합니다.
+     */
+    private static final RedisScript<Long> PUT_IF_NOT_EVICTED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) return 1",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final long ttlNanos;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final AtomicLongArray evictVersions = new AtomicLongArray(EVICT_VERSION_SLOTS); // 사용자 ID 슬롯별 무효화 버전
+
+    private volatile long generation; // 현재 캐시 세대 (Redis 사용 시 Redis 값과 동기화)
+    private volatile long localEpoch; // 로컬 캐시 세대 (바뀌면 로컬 캐시만 비움)
+
+    public MembershipResponseCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${membership.cache.membership.enabled:false}") boolean enabled,
+            @Value("${membership.cache.membership.maximum-size:100000}") int maximumSize,
+            @Value("${membership.cache.membership.ttl:10m}") Duration ttl,
+            @Value("${membership.cache.membership.redis.enabled:false}") boolean redisEnabled,
+            @Value("${membership.cache.membership.redis.ttl:1h}") Duration redisTtl,
+            @Value("${membership.cache.membership.redis.evict-tombstone-ttl:30s}") Duration tombstoneTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisEnabled = enabled && redisEnabled;
+        this.ttlNanos = ttl.toNanos();
+        this.redisTtl = redisTtl;
+        this.tombstoneTtl = tombstoneTtl;
+        int stripeCapacity = Math.max(1, maximumSize / STRIPE_COUNT);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        refreshGeneration();
+    }
+
+    /**
+     * 캐시된 멤버십 응답을 반환하고, 없으면 loader 로 읽어 캐시합니다. (로컬 → Redis → loader)
+     * loader 결과는 트랜잭션 커밋 후에 캐시하며, 그 사이 전체 무효화나 이 사용자의 무효화가 일어났으면 캐시하지 않습니다.
+     * @param userId 사용자 ID
+     * @param loader 캐시에 없을 때 멤버십 응답을 읽어오는 함수
+     * @return 멤버십 응답
+     */
+    public MembershipResponse getOrLoad(Long userId, Supplier<MembershipResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        long loadGeneration = generation;
+        MembershipResponse response = getLocal(userId);
+        if (response != null) {
+            return response;
+        }
+        long evictVersion = evictVersions.get(evictVersionSlotOf(userId));
+        response = getRemote(userId, loadGeneration);
+        if (response != null) {
+            putLocal(response, evictVersion);
+            return response;
+        }
+
+        MembershipResponse loaded = loader.get();
+        TransactionUtils.runAfterCommit(() -> {
+            if (generation != loadGeneration || evictVersions.get(evictVersionSlotOf(userId)) != evictVersion) {
+                return;
+            }
+            if (putRemote(loaded, loadGeneration)) {
+                putLocal(loaded, evictVersion);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 사용자의 캐시를 무효화합니다. (로컬, Redis)
+     * 트랜잭션 안에서 호출되면 커밋 후에 무효화하여, 커밋 전 값이 다시 캐시되지 않도록 합니다.
+     * 무효화 버전을 올리고 Redis 에 무효화 표시를 남겨, 그 전에 시작된 조회가 이전 값을 캐시하지 못하게 합니다.
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> {
+            removeLocal(userId);
+            if (redisEnabled) {
+                long keyGeneration = generation;
+                long tombstoneTtlSeconds = tombstoneTtl.toSeconds();
+                try {
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                        stringConnection.setEx(tombstoneKey(userId), tombstoneTtlSeconds, "1");
+                        stringConnection.del(remoteKey(userId, keyGeneration));
+                        return null;
+                    });
+                } catch (DataAccessException e) {
+                    log.warn("멤버십 캐시 Redis 삭제 실패: 사용자 ID={} - {}", userId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 모든 사용자의 캐시를 무효화합니다. (등급 평가 배치 종료 시)
+     * Redis 사용 시 세대 번호를 올려 기존 키를 모두 무효화하며, 남은 키는 TTL로 만료됩니다.
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        if (redisEnabled) {
+            try {
+                Long nextGeneration = redisTemplate.opsForValue().increment(GENERATION_KEY);
+                generation = nextGeneration != null ? nextGeneration : generation + 1;
+            } catch (DataAccessException e) {
+                log.warn("멤버십 캐시 Redis 세대 갱신 실패 - {}", e.getMessage());
+                generation++;
+            }
+        } else {
+            generation++;
+        }
+        clearLocal();
+        log.info("멤버십 캐시 전체 무효화: 세대={}", generation);
+    }
+
+    /**
+     * 여러 사용자의 캐시를 최신 값으로 교체합니다. (등급 평가 배치 후 warm-up)
+     * Redis 사용 시 파이프라인으로 한 번에 저장하며, 로컬 캐시는 이미 있는 항목만 교체합니다.
+     * @param responses 최신 멤버십 응답 목록
+     */
+    public void refreshAll(Collection<MembershipResponse> responses) {
+        if (!enabled || responses.isEmpty()) {
+            return;
+        }
+        for (MembershipResponse response : responses) {
+            replaceLocal(response);
+        }
+        if (!redisEnabled) {
+            return;
+        }
+
+        long keyGeneration = generation;
+        long ttlSeconds = redisTtl.toSeconds();
+        long tombstoneTtlSeconds = tombstoneTtl.toSeconds();
+        try {
+            List<String[]> keyValues = new ArrayList<>(responses.size());
+            for (MembershipResponse response : responses) {
+                keyValues.add(new String[] {
+                    remoteKey(response.getUserId(), keyGeneration), objectMapper.writeValueAsString(response),
+                    tombstoneKey(response.getUserId())
+                });
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String[] keyValue : keyValues) {
+                    stringConnection.setEx(keyValue[2], tombstoneTtlSeconds, "1"); // 진행 중인 조회가 이전 값을 덮어쓰지 않도록
+                    stringConnection.setEx(keyValue[0], ttlSeconds, keyValue[1]);
+                }
+                return null;
+            });
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("멤버십 캐시 Redis 일괄 저장 실패: {} 명 - {}", responses.size(), e.getMessage());
+            evictAll(responses.stream().map(MembershipResponse::getUserId).toList());
+        }
+    }
+
+    /**
+     * 여러 사용자의 캐시를 무효화합니다. Redis 사용 시 파이프라인으로 한 번에 삭제합니다.
+     * @param userIds 사용자 ID 목록
+     */
+    public void evictAll(Collection<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        for (Long userId : userIds) {
+            removeLocal(userId);
+        }
+        if (!redisEnabled) {
+            return;
+        }
+
+        long keyGeneration = generation;
+        long tombstoneTtlSeconds = tombstoneTtl.toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    stringConnection.setEx(tombstoneKey(userId), tombstoneTtlSeconds, "1");
+                    stringConnection.del(remoteKey(userId, keyGeneration));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            // 삭제하지 못한 키가 오래된 값을 내주지 않도록 전체 무효화로 대신합니다.
+            log.warn("멤버십 캐시 Redis 일괄 삭제 실패: {} 명, 전체 무효화 - {}", userIds.size(), e.getMessage());
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 로컬 캐시를 비우도록 알립니다. Redis 캐시는 유지되므로 이후 조회는 Redis 에서 채워집니다.
+     * refreshAll/evictAll 로 Redis 를 갱신한 뒤 호출합니다. (Redis 미사용 시 로컬만 쓰므로 할 일이 없습니다.)
+     */
+    public void broadcastLocalRefresh() {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            Long nextLocalEpoch = redisTemplate.opsForValue().increment(LOCAL_EPOCH_KEY);
+            if (nextLocalEpoch != null) {
+                localEpoch = nextLocalEpoch; // 이미 최신인 이 인스턴스의 로컬 캐시는 유지
+            }
+        } catch (DataAccessException e) {
+            log.warn("멤버십 캐시 로컬 세대 갱신 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 올린 Redis 세대 번호를 확인하고, 바뀌었으면 로컬 캐시를 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${membership.cache.membership.redis.generation-check-interval-millis:5000}")
+    public void refreshGeneration() {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(GENERATION_KEY, LOCAL_EPOCH_KEY));
+            long remoteGeneration = parseCounter(values, 0);
+            long remoteLocalEpoch = parseCounter(values, 1);
+            if (remoteGeneration != generation || remoteLocalEpoch != localEpoch) {
+                generation = remoteGeneration;
+                localEpoch = remoteLocalEpoch;
+                clearLocal();
+            }
+        } catch (DataAccessException e) {
+            log.warn("멤버십 캐시 Redis 세대 조회 실패 - {}", e.getMessage());
+        }
+    }
+
+    private long parseCounter(List<String> values, int index) {
+        if (values == null || values.get(index) == null) {
+            return 0L;
+        }
+        return Long.parseLong(values.get(index));
+    }
+
+    private MembershipResponse getLocal(Long userId) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            stripe.sketch.increment(userId);
+            Entry entry = stripe.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                stripe.remove(userId);
+                return null;
+            }
+            return entry.response;
+        }
+    }
+
+    /**
+     * 로컬 캐시에 저장합니다. 조회 시작 시점(evictVersion) 이후 무효화되었으면 저장하지 않습니다.
+     */
+    private void putLocal(MembershipResponse response, long evictVersion) {
+        Long userId = response.getUserId();
+        Stripe stripe = stripeOf(userId);
+        long now = System.nanoTime();
+        synchronized (stripe) {
+            if (evictVersions.get(evictVersionSlotOf(userId)) != evictVersion) {
+                return;
+            }
+            Entry entry = new Entry(response, now + ttlNanos);
+            if (stripe.main.containsKey(userId)) {
+                stripe.main.put(userId, entry);
+                return;
+            }
+            stripe.window.put(userId, entry);
+            while (stripe.window.size() > stripe.windowCapacity) {
+                Iterator<Map.Entry<Long, Entry>> windowEldest = stripe.window.entrySet().iterator();
+                Map.Entry<Long, Entry> candidate = windowEldest.next();
+                windowEldest.remove();
+                admitToMain(stripe, candidate.getKey(), candidate.getValue(), now);
+            }
+        }
+    }
+
+    /**
+     * window 에서 밀려난 항목을 main 에 넣습니다.
+     * main 이 가득 찼으면 TinyLFU 입장 정책으로, 가장 오래 쓰이지 않은 main 항목보다 자주 요청된 경우에만 교체합니다.
+     */
+    private void admitToMain(Stripe stripe, Long userId, Entry entry, long now) {
+        if (entry.isExpired(now)) {
+            return;
+        }
+        Map<Long, Entry> main = stripe.main;
+        if (main.size() >= stripe.mainCapacity) {
+            Iterator<Map.Entry<Long, Entry>> eldest = main.entrySet().iterator();
+            Map.Entry<Long, Entry> victim = eldest.next();
+            if (!victim.getValue().isExpired(now)
+                    && stripe.sketch.frequency(userId) <= stripe.sketch.frequency(victim.getKey())) {
+                return;
+            }
+            eldest.remove();
+        }
+        main.put(userId, entry);
+    }
+
+    private void replaceLocal(MembershipResponse response) {
+        Stripe stripe = stripeOf(response.getUserId());
+        synchronized (stripe) {
+            evictVersions.incrementAndGet(evictVersionSlotOf(response.getUserId())); // 진행 중인 조회가 이전 값을 덮어쓰지 않도록
+            Entry entry = new Entry(response, System.nanoTime() + ttlNanos);
+            stripe.window.computeIfPresent(response.getUserId(), (userId, previous) -> entry);
+            stripe.main.computeIfPresent(response.getUserId(), (userId, previous) -> entry);
+        }
+    }
+
+    private void removeLocal(Long userId) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            evictVersions.incrementAndGet(evictVersionSlotOf(userId));
+            stripe.remove(userId);
+        }
+    }
+
+    private void clearLocal() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.window.clear();
+                stripe.main.clear();
+            }
+        }
+    }
+
+    private MembershipResponse getRemote(Long userId, long loadGeneration) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(remoteKey(userId, loadGeneration));
+            return json != null ? objectMapper.readValue(json, MembershipResponse.class) : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("멤버십 캐시 Redis 조회 실패: 사용자 ID={} - {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Redis 에 저장합니다. 다른 인스턴스가 방금 무효화한 사용자(무효화 표시 존재)면 저장하지 않습니다.
+     * @return 로컬 캐시에도 저장해도 되면 true (무효화 표시가 있으면 false)
+     */
+    private boolean putRemote(MembershipResponse response, long loadGeneration) {
+        if (!redisEnabled) {
+            return true;
+        }
+        try {
+            Long stored = redisTemplate.execute(PUT_IF_NOT_EVICTED_SCRIPT,
+                List.of(remoteKey(response.getUserId(), loadGeneration), tombstoneKey(response.getUserId())),
+                objectMapper.writeValueAsString(response), String.valueOf(redisTtl.toSeconds()));
+            return stored != null && stored == 1L;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("멤버십 캐시 Redis 저장 실패: 사용자 ID={} - {}", response.getUserId(), e.getMessage());
+            return true;
+        }
+    }
+
+    private String remoteKey(Long userId, long keyGeneration) {
+        return KEY_PREFIX + keyGeneration + ":" + userId;
+    }
+
+    private String tombstoneKey(Long userId) {
+        return TOMBSTONE_KEY_PREFIX + userId;
+    }
+
+    private int evictVersionSlotOf(Long userId) {
+        return Math.floorMod(userId.hashCode(), EVICT_VERSION_SLOTS);
+    }
+
+    private Stripe stripeOf(Long userId) {
+        return stripes[Math.floorMod(userId.hashCode(), STRIPE_COUNT)];
+    }
+
+    /**
+     * 사용자 ID 스트라이프별 W-TinyLFU 로컬 캐시 (잠금은 호출하는 쪽에서 잡습니다.)
+     * 크기가 1이면 window 없이 main 만 사용합니다.
+     */
+    private static final class Stripe {
+        private final int windowCapacity;
+        private final int mainCapacity;
+        private final FrequencySketch sketch;
+        private final Map<Long, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final Map<Long, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+
+        private Stripe(int capacity) {
+            this.windowCapacity = capacity > 1 ? Math.max(1, capacity * WINDOW_PERCENT / 100) : 0;
+            this.mainCapacity = capacity - windowCapacity;
+            this.sketch = new FrequencySketch(capacity);
+        }
+
+        private Entry get(Long userId) {
+            Entry entry = window.get(userId);
+            return entry != null ? entry : main.get(userId);
+        }
+
+        private void remove(Long userId) {
+            if (window.remove(userId) == null) {
+                main.remove(userId);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final MembershipResponse response;
+        private final long expiresAtNanos;
+
+        private Entry(MembershipResponse response, long expiresAtNanos) {
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtNanos - now <= 0;
+        }
+    }
+}
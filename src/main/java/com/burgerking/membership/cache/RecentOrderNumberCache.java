@@ -0,0 +1,68 @@
+package com.burgerking.membership.cache;
+
+import com.burgerking.common.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 처리된 주문 번호 캐시
+ * - 재시도로 들어온 중복 주문을 DB 왕복 없이 거르기 위한 용도입니다.
+ * - 크기가 제한된 LRU 이며, 주문 번호 단위로 스트라이프를 나누어 잠금 경합을 줄입니다.
+ * - 캐시에 없다고 신규 주문이 보장되지는 않으므로, 최종 판정은 order_numbers 기본 키(주문 번호 등록)가 합니다.
+ */
+@Component
+public class RecentOrderNumberCache {
+
+    private static final int STRIPE_COUNT = 32;
+
+    private final Map<String, Boolean>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public RecentOrderNumberCache(@Value("${membership.order.recent-order-cache-size:100000}") int capacity) {
+        int stripeCapacity = Math.max(1, capacity / STRIPE_COUNT);
+        this.stripes = new Map[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > stripeCapacity;
+                }
+            };
+        }
+    }
+
+    /**
+     * 최근에 처리된 주문 번호인지 확인합니다.
+     * @param orderNumber 주문 번호
+     * @return 최근에 처리된 주문 번호이면 true
+     */
+    public boolean contains(String orderNumber) {
+        Map<String, Boolean> stripe = stripeOf(orderNumber);
+        synchronized (stripe) {
+            return stripe.get(orderNumber) != null;
+        }
+    }
+
+    /**
+     * 처리된 주문 번호를 기록합니다.
+     * 트랜잭션 안에서 호출되면 커밋 후에 기록하여, 롤백된 주문의 재시도를 막지 않도록 합니다.
+     * @param orderNumber 주문 번호
+     */
+    public void add(String orderNumber) {
+        TransactionUtils.runAfterCommit(() -> put(orderNumber));
+    }
+
+    private void put(String orderNumber) {
+        Map<String, Boolean> stripe = stripeOf(orderNumber);
+        synchronized (stripe) {
+            stripe.put(orderNumber, Boolean.TRUE);
+        }
+    }
+
+    private Map<String, Boolean> stripeOf(String orderNumber) {
+        return stripes[Math.floorMod(orderNumber.hashCode(), STRIPE_COUNT)];
+    }
+}
@@ -20,7 +20,7 @@ public class Membership {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;            // 멤버십 ID
 
-    @Column(name = "user_id", nullable = false)
+    @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;        // 사용자 ID
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,44 @@
+package com.burgerking.membership.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ *  사용자별 월간 주문 집계 데이터 (등급 평가 기간 합산용)
+ *  주문 처리 시 주문 월(yyyy-MM) 버킷에 금액/횟수를 원자적으로 더하며,
+ *  등급 평가는 평가 기간(MembershipDateUtils)에 해당하는 버킷만 합산합니다.
+ */
+@Entity
+@Table(name = "monthly_order_sums", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_monthly_order_sums_user_month", columnNames = {"user_id", "order_month"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MonthlyOrderSum {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;                // 월간 주문 집계 ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;            // 사용자 ID
+
+    @Column(name = "order_month", nullable = false, length = 7)
+    private String orderMonth;      // 주문 년월 (yyyy-MM)
+
+    @Column(name = "total_amount", nullable = false)
+    private Integer totalAmount;    // 월 주문 금액
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;     // 월 주문 횟수
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 생성일
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // 수정일
+}
@@ -1,5 +1,6 @@
 package com.burgerking.membership.domain;
 
+import com.burgerking.common.id.TimeOrderedId;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,13 +15,16 @@ import java.time.LocalDateTime;
  */
 
 @Entity(name = "MembershipOrder")
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_user_id_order_date", columnList = "user_id, order_date"), // 사용자별 기간 조회
+    @Index(name = "idx_orders_order_number", columnList = "order_number")
+}) // 주문 번호 중복 방지는 order_numbers 테이블이 담당 (orders는 order_date 월 단위 파티션)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId // 애플리케이션에서 시간순 ID 발급 (JDBC 배치 INSERT 가능)
     private Long id;                    // 주문 ID
 
     @Column(name = "user_id", nullable = false)
@@ -38,12 +42,20 @@ public class Order {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;    // 생성일
     
+    /**
+     * @param id          주문 ID (JDBC 저장 시 미리 발급한 값, 없으면 저장 시 발급)
+     * @param userId      사용자 ID
+     * @param orderNumber 주문 번호
+     * @param orderAmount 주문 금액
+     * @param orderDate   주문 일시 (없으면 현재 시각)
+     */
     @Builder
-    public Order(Long userId, String orderNumber, Integer orderAmount) {
+    public Order(Long id, Long userId, String orderNumber, Integer orderAmount, LocalDateTime orderDate) {
+        this.id = id;
         this.userId = userId;
         this.orderNumber = orderNumber;
         this.orderAmount = orderAmount;
-        this.orderDate = LocalDateTime.now();
+        this.orderDate = orderDate != null ? orderDate : LocalDateTime.now();
         this.createdAt = LocalDateTime.now();
     }
     
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "sum_orders", indexes = {
-    @Index(name = "idx_sum_orders_user_id", columnList = "user_id")
+    @Index(name = "idx_sum_orders_user_id", columnList = "user_id"),
+    @Index(name = "idx_sum_orders_updated_at", columnList = "updated_at") // 증분 등급 평가 대상 조회
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,29 @@
+package com.burgerking.membership.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+/**
+ *  사용자별 누적 주문 증분 (sum_orders, monthly_order_sums 일괄 upsert 단위)
+ */
+@Getter
+@AllArgsConstructor
+public class SumOrderDelta {
+
+    private final Long userId;          // 사용자 ID
+    private final YearMonth orderMonth; // 주문 년월 (월간 집계 버킷)
+    private long amount;                // 누적할 주문 금액
+    private int orderCount;             // 누적할 주문 횟수
+
+    /**
+     * 주문을 증분에 더합니다.
+     * @param amount 주문 금액
+     * @param orderCount 주문 횟수
+     */
+    public void add(long amount, int orderCount) {
+        this.amount += amount;
+        this.orderCount += orderCount;
+    }
+}
@@ -20,20 +20,17 @@ public enum MembershipGrade {
     
     /**
      * 누적 주문 금액에 따라 적절한 등급 반환
-     * @param last3MonthAmount 누적 주문 금액
+     * 상위 등급부터 기준 금액을 비교합니다. (enum 선언 순서 = 기준 금액 오름차순)
+     * @param orderAmount 누적 주문 금액
      * @return 해당되는 멤버십 등급
      */
     public static MembershipGrade evaluateGrade(Integer orderAmount) {
-        if (orderAmount >= PLATINUM.requiredAmount) {
-            return VIP;
-        } else if (orderAmount >= PLATINUM.requiredAmount) {
-            return PLATINUM;
-        } else if (orderAmount >= GOLD.requiredAmount) {
-            return GOLD;
-        } else if (orderAmount >= SILVER.requiredAmount) {
-            return SILVER;
-        } else {
-            return BRONZE;
+        MembershipGrade[] grades = values();
+        for (int i = grades.length - 1; i > 0; i--) {
+            if (orderAmount >= grades[i].requiredAmount) {
+                return grades[i];
+            }
         }
+        return BRONZE;
     }
 }
\ No newline at end of file
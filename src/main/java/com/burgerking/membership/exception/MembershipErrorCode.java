@@ -1,6 +1,7 @@
 package com.burgerking.membership.exception;
 
 import com.burgerking.common.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
 
 /**
  * 멤버십 도메인 관련 에러 코드를 정의하는 열거형입니다.
@@ -29,16 +30,32 @@ public enum MembershipErrorCode implements ErrorCode {
     /**
      * 등급 평가에 필요한 최소한의 주문 내역이 존재하지 않을 때 발생합니다.
      */
-    INSUFFICIENT_ORDER_HISTORY("등급 평가를 위한 충분한 주문 내역이 없습니다.");
+    INSUFFICIENT_ORDER_HISTORY("등급 평가를 위한 충분한 주문 내역이 없습니다."),
+
+    /**
+     * 현재 설정에서 누적 주문 재집계를 실행할 수 없을 때 발생합니다. (e.g., write-behind 버퍼 사용 중)
+     */
+    SUM_ORDER_REBUILD_NOT_ALLOWED("현재 설정에서는 누적 주문 재집계를 실행할 수 없습니다.", HttpStatus.CONFLICT);
 
     private final String message;
+    private final HttpStatus status;
 
     MembershipErrorCode(String message) {
+        this(message, HttpStatus.BAD_REQUEST);
+    }
+
+    MembershipErrorCode(String message, HttpStatus status) {
         this.message = message;
+        this.status = status;
     }
 
     @Override
     public String getMessage() {
         return message;
     }
+
+    @Override
+    public HttpStatus getStatus() {
+        return status;
+    }
 }
\ No newline at end of file
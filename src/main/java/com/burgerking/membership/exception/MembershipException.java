@@ -62,4 +62,14 @@ public class MembershipException extends BusinessException {
             "사용자 ID: " + userId + "의 등급 평가를 위한 충분한 주문 내역이 없습니다."
         );
     }
+
+    /**
+     * '누적 주문 재집계 실행 불가' 예외를 생성합니다.
+     *
+     * @param reason 실행할 수 없는 이유
+     * @return MembershipException
+     */
+    public static MembershipException sumOrderRebuildNotAllowed(String reason) {
+        return new MembershipException(MembershipErrorCode.SUM_ORDER_REBUILD_NOT_ALLOWED, reason);
+    }
 }
\ No newline at end of file
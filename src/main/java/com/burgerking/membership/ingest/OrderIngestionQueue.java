@@ -0,0 +1,283 @@
+package com.burgerking.membership.ingest;
+
+import com.burgerking.common.exception.BusinessException;
+import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.web.dto.OrderProcessRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 비동기 접수 큐
+ * - 컨트롤러는 주문을 큐에 넣고 바로 응답(202)하며, 큐가 가득 차면 접수를 거절(429)합니다.
+ * - 소비 스레드가 큐에서 최대 micro-batch-size 건씩 꺼내 일괄 처리(processOrders)합니다.
+ * - 일괄 처리가 실패하면 한 건씩 다시 처리하여 문제 주문만 걸러냅니다. (주문 번호 기준 멱등이라 재처리해도 안전)
+ * - 한 건 처리도 실패한 주문은 버리지 않고 지수 백오프로 재시도하며, 재시도 대기 주문이 retry.max-pending 건에 이르면(DB 장애 등)
+ *   새 주문 접수를 거절(429)합니다. 재시도 횟수를 넘긴 주문은 dead-letter 파일(NDJSON)에 남기며,
+ *   이 파일은 POST /api/membership/orders/bulk 로 그대로 다시 보낼 수 있습니다.
+ * - 검증 실패, 제약 조건 위반처럼 다시 처리해도 같은 결과인 실패는 재시도하지 않고 바로 dead-letter 파일에 남깁니다.
+ */
+@Slf4j
+@Component
+public class OrderIngestionQueue {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final MembershipService membershipService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int consumerCount;
+    private final int microBatchSize;
+    private final int maxAttempts;
+    private final int maxPendingRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Path deadLetterPath;
+    private final BlockingQueue<OrderProcessRequest> queue;
+    private final DelayQueue<RetryEntry> retryQueue = new DelayQueue<>();
+
+    private ThreadPoolTaskExecutor consumerExecutor;
+    private volatile boolean running;
+
+    public OrderIngestionQueue(
+            MembershipService membershipService,
+            ObjectMapper objectMapper,
+            @Value("${membership.order.async.enabled:false}") boolean enabled,
+            @Value("${membership.order.async.capacity:10000}") int capacity,
+            @Value("${membership.order.async.consumer-count:2}") int consumerCount,
+            @Value("${membership.order.async.micro-batch-size:200}") int microBatchSize,
+            @Value("${membership.order.async.retry.max-attempts:5}") int maxAttempts,
+            @Value("${membership.order.async.retry.max-pending:1000}") int maxPendingRetries,
+            @Value("${membership.order.async.retry.initial-backoff-millis:1000}") long initialBackoffMillis,
+            @Value("${membership.order.async.retry.max-backoff-millis:30000}") long maxBackoffMillis,
+            @Value("${membership.order.async.dead-letter-path:logs/order-dead-letter.ndjson}") String deadLetterPath) {
+        this.membershipService = membershipService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.consumerCount = consumerCount;
+        this.microBatchSize = microBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxPendingRetries = maxPendingRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.deadLetterPath = Path.of(deadLetterPath);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 비동기 접수 모드 사용 여부
+     * @return 사용 시 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문을 큐에 넣습니다. 대기하지 않습니다.
+     * 재시도 대기 중인 주문이 max-pending 건에 이르면(처리 실패가 이어지는 중) 이미 접수한 주문을 먼저 처리하기 위해 접수하지 않습니다.
+     * @param request 주문 처리 요청 DTO
+     * @return 접수되었으면 true, 큐가 가득 찼거나 재시도 대기 주문이 많으면 false
+     */
+    public boolean offer(OrderProcessRequest request) {
+        if (retryQueue.size() >= maxPendingRetries) {
+            return false;
+        }
+        return queue.offer(request);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        consumerExecutor = new ThreadPoolTaskExecutor();
+        consumerExecutor.setCorePoolSize(consumerCount);
+        consumerExecutor.setMaxPoolSize(consumerCount);
+        consumerExecutor.setThreadNamePrefix("order-ingest-");
+        consumerExecutor.setWaitForTasksToCompleteOnShutdown(true); // 처리 중인 micro-batch 는 끝까지 처리
+        consumerExecutor.setAwaitTerminationSeconds(30);
+        consumerExecutor.initialize();
+        for (int i = 0; i < consumerCount; i++) {
+            consumerExecutor.execute(this::consume);
+        }
+        log.info("주문 비동기 접수 시작: 소비 스레드 {} 개, micro-batch {} 건", consumerCount, microBatchSize);
+    }
+
+    /**
+     * 종료 시 소비 스레드를 멈추고 남은 주문을 처리합니다.
+     * 재시도 대기 중인 주문과 종료 시 처리에 실패한 주문은 dead-letter 파일에 남깁니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        consumerExecutor.shutdown();
+
+        List<OrderProcessRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (RetryEntry entry : retryQueue) {
+            remaining.add(entry.request);
+        }
+        retryQueue.clear();
+        for (int from = 0; from < remaining.size(); from += microBatchSize) {
+            for (OrderProcessRequest failed : process(remaining.subList(from, Math.min(from + microBatchSize, remaining.size())))) {
+                writeDeadLetter(failed, "종료 시 처리 실패");
+            }
+        }
+    }
+
+    private void consume() {
+        List<OrderProcessRequest> batch = new ArrayList<>(microBatchSize);
+        while (running) {
+            try {
+                RetryEntry retry = retryQueue.poll(); // 백오프가 끝난 재시도 주문 우선
+                if (retry != null) {
+                    retry(retry);
+                    continue;
+                }
+                OrderProcessRequest first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, microBatchSize - 1);
+                for (OrderProcessRequest failed : process(batch)) {
+                    scheduleRetry(failed, 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 주문을 일괄 처리하고, 한 건 처리까지 실패한 주문 중 재시도할 주문을 반환합니다.
+     * 재시도해도 같은 결과인 실패는 바로 dead-letter 파일에 남깁니다.
+     */
+    private List<OrderProcessRequest> process(List<OrderProcessRequest> batch) {
+        List<OrderProcessRequest> failed = new ArrayList<>();
+        try {
+            membershipService.processOrders(batch);
+        } catch (RuntimeException e) {
+            log.warn("주문 micro-batch 처리 실패, 한 건씩 재처리: {} 건 - {}", batch.size(), e.getMessage());
+            for (OrderProcessRequest request : batch) {
+                try {
+                    membershipService.processOrder(request);
+                } catch (RuntimeException ex) {
+                    if (isNonTransient(ex)) {
+                        writeDeadLetter(request, ex.getMessage());
+                        continue;
+                    }
+                    log.warn("비동기 주문 처리 실패: 주문 번호={} - {}", request.getOrderNumber(), ex.getMessage());
+                    failed.add(request);
+                }
+            }
+        }
+        return failed;
+    }
+
+    private void retry(RetryEntry entry) {
+        try {
+            membershipService.processOrder(entry.request);
+        } catch (RuntimeException e) {
+            if (entry.attempts >= maxAttempts || isNonTransient(e)) {
+                writeDeadLetter(entry.request, e.getMessage());
+                return;
+            }
+            scheduleRetry(entry.request, entry.attempts + 1);
+        }
+    }
+
+    /**
+     * 재시도해도 같은 결과인 실패인지 판단합니다. (검증 실패, 제약 조건 위반 등)
+     * 커넥션 획득 실패 같은 자원 장애는 NonTransientDataAccessException 이어도 재시도합니다.
+     */
+    static boolean isNonTransient(RuntimeException e) {
+        if (e instanceof BusinessException || e instanceof IllegalArgumentException) {
+            return true;
+        }
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof NonTransientDataAccessResourceException);
+    }
+
+    private void scheduleRetry(OrderProcessRequest request, int attempts) {
+        long backoffMillis = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempts - 1, 20));
+        retryQueue.put(new RetryEntry(request, attempts, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis)));
+        log.warn("비동기 주문 재시도 예약: 주문 번호={}, {} 회차, {} ms 후", request.getOrderNumber(), attempts, backoffMillis);
+    }
+
+    /**
+     * 처리하지 못한 주문을 dead-letter 파일에 NDJSON 한 줄로 남깁니다.
+     * 파일 기록도 실패하면 주문 내용을 에러 로그로 남깁니다.
+     */
+    private synchronized void writeDeadLetter(OrderProcessRequest request, String reason) {
+        try {
+            String line = objectMapper.writeValueAsString(request);
+            if (deadLetterPath.getParent() != null) {
+                Files.createDirectories(deadLetterPath.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(deadLetterPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(line);
+                writer.newLine();
+            }
+            log.error("비동기 주문 처리 포기, dead-letter 기록: 주문 번호={}, 파일={} - {}",
+                request.getOrderNumber(), deadLetterPath, reason);
+        } catch (IOException e) {
+            log.error("비동기 주문 처리 포기, dead-letter 기록 실패: 주문 번호={}, 사용자 ID={}, 주문 금액={} - {}",
+                request.getOrderNumber(), request.getUserId(), request.getOrderAmount(), reason, e);
+        }
+    }
+
+    /**
+     * 백오프 후 다시 처리할 주문
+     */
+    private static final class RetryEntry implements Delayed {
+        private final OrderProcessRequest request;
+        private final int attempts;
+        private final long dueNanos;
+
+        private RetryEntry(OrderProcessRequest request, int attempts, long dueNanos) {
+            this.request = request;
+            this.attempts = attempts;
+            this.dueNanos = dueNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.burgerking.membership.repository;
+
+import com.burgerking.membership.domain.enums.MembershipGrade;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 멤버십(members)을 JDBC로 직접 다루는 Repository
+ */
+@Repository
+public class MembershipJdbcRepository {
+
+    private static final String INSERT_OR_GET_ID_SQL =
+        "INSERT INTO members (user_id, grade, last_evaluation_date, next_evaluation_date, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MembershipJdbcRepository(@Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * userId의 멤버십이 없으면 생성하고, 생성했거나 이미 있던 멤버십 ID를 반환합니다.
+     * members.user_id 유니크 키에 걸리면 기존 row는 바꾸지 않고 LAST_INSERT_ID(id)로 기존 ID를 생성 키로 돌려주므로,
+     * 동시 요청에도 실패하지 않습니다.
+     *
+     * @param userId    사용자 ID
+     * @param grade     초기 등급
+     * @param createdAt 생성일 (최종 평가일 겸용, 다음 평가일은 1개월 뒤)
+     * @return 멤버십 ID
+     */
+    public long insertOrGetId(Long userId, MembershipGrade grade, LocalDateTime createdAt) {
+        Timestamp now = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_OR_GET_ID_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setString(2, grade.name());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, Timestamp.valueOf(createdAt.plusMonths(1)));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -1,10 +1,17 @@
 package com.burgerking.membership.repository;
 
 import com.burgerking.membership.domain.Membership;
+import com.burgerking.membership.domain.enums.MembershipGrade;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +23,26 @@ public interface MembershipRepository extends JpaRepository<Membership, Long> {
      * @return Optional<Membership>
      */
     Optional<Membership> findByUserId(Long userId);
+
+    /**
+     * 여러 userId의 멤버십 정보를 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return List<Membership>
+     */
+    List<Membership> findByUserIdIn(Collection<Long> userIds);
+
+    /**
+     * userId의 멤버십 등급을 조회 없이 바로 갱신합니다.
+     *
+     * @param userId    사용자 ID
+     * @param grade     새 등급
+     * @param updatedAt 수정일
+     * @return 갱신된 row 수
+     */
+    @Modifying
+    @Query("UPDATE Membership m SET m.grade = :grade, m.updatedAt = :updatedAt WHERE m.userId = :userId")
+    int updateGradeByUserId(@Param("userId") Long userId,
+                            @Param("grade") MembershipGrade grade,
+                            @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,63 @@
+package com.burgerking.membership.repository;
+
+import com.burgerking.membership.domain.MonthlyOrderSum;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+
+@Repository
+public interface MonthlyOrderSumRepository extends JpaRepository<MonthlyOrderSum, Long> {
+
+    /**
+     * 주문 1건을 사용자의 주문 월 버킷에 원자적으로 반영합니다.
+     * 버킷이 없으면 생성하고, 있으면 (user_id, order_month) 유니크 키 충돌 시 금액/횟수를 DB에서 더합니다.
+     *
+     * @param userId     사용자 ID
+     * @param orderMonth 주문 년월 (yyyy-MM)
+     * @param amount     주문 금액
+     * @param updatedAt  수정일 (신규 생성 시 생성일)
+     * @return 영향받은 row 수 (MySQL: 신규 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_order_sums (user_id, order_month, total_amount, order_count, created_at, updated_at) "
+        + "VALUES (:userId, :orderMonth, :amount, 1, :updatedAt, :updatedAt) "
+        + "ON DUPLICATE KEY UPDATE total_amount = total_amount + :amount, "
+        + "order_count = order_count + 1, updated_at = :updatedAt",
+        nativeQuery = true)
+    int upsertOrder(@Param("userId") Long userId,
+                    @Param("orderMonth") String orderMonth,
+                    @Param("amount") int amount,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 여러 사용자의 평가 기간 주문 금액 합계를 GROUP BY 쿼리 한 번으로 조회합니다.
+     * 기간 내 주문이 없는 사용자는 결과에 포함되지 않습니다.
+     *
+     * @param userIds    사용자 ID 목록
+     * @param startMonth 평가 시작 년월 (yyyy-MM, 포함)
+     * @param endMonth   평가 종료 년월 (yyyy-MM, 포함)
+     * @return 사용자별 기간 주문 금액 합계
+     */
+    @Query("SELECT m.userId AS userId, SUM(m.totalAmount) AS totalAmount FROM MonthlyOrderSum m "
+        + "WHERE m.userId IN :userIds AND m.orderMonth BETWEEN :startMonth AND :endMonth "
+        + "GROUP BY m.userId")
+    List<UserTotalAmount> sumTotalAmountByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                                   @Param("startMonth") String startMonth,
+                                                   @Param("endMonth") String endMonth);
+
+    /**
+     * 사용자별 주문 금액 합계 (조회 결과 projection)
+     */
+    interface UserTotalAmount {
+        Long getUserId();
+        Long getTotalAmount();
+    }
+}
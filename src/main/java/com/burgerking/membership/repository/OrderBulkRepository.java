@@ -0,0 +1,51 @@
+package com.burgerking.membership.repository;
+
+import com.burgerking.common.id.TimeOrderedIdGenerator;
+import com.burgerking.membership.domain.Order;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주문(orders)을 JDBC 배치로 일괄 저장하는 Repository
+ */
+@Repository
+public class OrderBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO orders (id, user_id, order_number, order_amount, order_date, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderBulkRepository(@Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 주문 목록을 배치 INSERT로 저장합니다.
+     * 주문 번호 중복 판정은 OrderNumberJdbcRepository.reserveAll 로 먼저 합니다.
+     * id 가 없는 주문은 저장 시 발급합니다.
+     * (rewriteBatchedStatements=true 이면 multi-row INSERT로 재작성되어 전송됩니다.)
+     *
+     * @param orders 저장할 주문 목록
+     */
+    public void insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        TimeOrderedIdGenerator idGenerator = TimeOrderedIdGenerator.getInstance();
+        jdbcTemplate.batchUpdate(INSERT_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getId() != null ? order.getId() : idGenerator.nextId());
+            ps.setLong(2, order.getUserId());
+            ps.setString(3, order.getOrderNumber());
+            ps.setInt(4, order.getOrderAmount());
+            ps.setTimestamp(5, Timestamp.valueOf(order.getOrderDate()));
+            ps.setTimestamp(6, Timestamp.valueOf(order.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.burgerking.membership.repository;
+
+import com.burgerking.membership.domain.Order;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 처리된 주문 번호(order_numbers)를 JDBC로 직접 다루는 Repository
+ * orders 는 order_date 기준 파티션 테이블이라 주문 번호 유니크 키를 가질 수 없으므로,
+ * 주문 번호 중복 판정은 파티션하지 않은 order_numbers 의 기본 키로 합니다.
+ */
+@Repository
+public class OrderNumberJdbcRepository {
+
+    private static final String RESERVE_SQL =
+        "INSERT IGNORE INTO order_numbers (order_number, order_id, created_at) VALUES (?, ?, ?)";
+    private static final String FIND_ORDER_IDS_SQL =
+        "SELECT order_number, order_id FROM order_numbers WHERE order_number IN (:orderNumbers)";
+    private static final String FIND_EXISTING_SQL =
+        "SELECT order_number FROM order_numbers WHERE order_number IN (:orderNumbers)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public OrderNumberJdbcRepository(@Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 주문 번호가 아직 없을 때만 등록합니다. 기본 키에 걸리면 등록하지 않습니다. (조회 없이 중복 판정)
+     *
+     * @param orderNumber 주문 번호
+     * @param orderId     주문 ID
+     * @param createdAt   등록일
+     * @return 새로 등록했으면 true (중복이면 false)
+     */
+    public boolean reserve(String orderNumber, long orderId, LocalDateTime createdAt) {
+        return jdbcTemplate.update(RESERVE_SQL, orderNumber, orderId, Timestamp.valueOf(createdAt)) > 0;
+    }
+
+    /**
+     * 주문들의 주문 번호를 배치 INSERT IGNORE 로 등록하고, 이 호출이 등록한 주문 번호를 반환합니다.
+     * rewriteBatchedStatements 사용 시 건별 결과를 알 수 없으므로, 등록 후 order_id 를 IN 조회 한 번으로 비교합니다.
+     *
+     * @param orders    주문 목록 (id 발급 완료)
+     * @param createdAt 등록일
+     * @return 이 호출로 등록된 주문 번호 (다른 요청이 먼저 등록한 주문 번호는 제외)
+     */
+    public Set<String> reserveAll(List<Order> orders, LocalDateTime createdAt) {
+        if (orders.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(RESERVE_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setString(1, order.getOrderNumber());
+            ps.setLong(2, order.getId());
+            ps.setTimestamp(3, timestamp);
+        });
+
+        Map<String, Long> orderIdByOrderNumber = orders.stream()
+            .collect(Collectors.toMap(Order::getOrderNumber, Order::getId));
+        Set<String> reserved = new HashSet<>();
+        namedParameterJdbcTemplate.query(FIND_ORDER_IDS_SQL, Map.of("orderNumbers", orderIdByOrderNumber.keySet()), rs -> {
+            String orderNumber = rs.getString("order_number");
+            if (orderIdByOrderNumber.get(orderNumber) == rs.getLong("order_id")) {
+                reserved.add(orderNumber);
+            }
+        });
+        return reserved;
+    }
+
+    /**
+     * 주어진 주문 번호 중 이미 등록된 주문 번호를 조회합니다.
+     *
+     * @param orderNumbers 주문 번호 목록
+     * @return 이미 등록된 주문 번호 목록
+     */
+    public List<String> findExistingIn(Collection<String> orderNumbers) {
+        return namedParameterJdbcTemplate.queryForList(FIND_EXISTING_SQL,
+            Map.of("orderNumbers", orderNumbers), String.class);
+    }
+}
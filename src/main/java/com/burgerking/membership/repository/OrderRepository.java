@@ -3,6 +3,9 @@ package com.burgerking.membership.repository;
 import com.burgerking.membership.domain.Order;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -12,6 +15,8 @@ import java.util.List;
 public interface OrderRepository extends JpaRepository<Order, Long> {
     /**
      * 특정 기간 동안의 사용자 주문 내역을 조회합니다.
+     * orders 는 order_date 월 단위 RANGE 파티션이므로 기간에 해당하는 파티션만 읽으며,
+     * 파티션 안에서는 (user_id, order_date) 인덱스를 사용합니다.
      *
      * @param userId    사용자 ID
      * @param startDate 조회 시작 일시
@@ -19,4 +24,24 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return List<Order>
      */
     List<Order> findByUserIdAndOrderDateBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 주문을 저장합니다. 주문 번호 중복 판정은 OrderNumberJdbcRepository.reserve 로 먼저 합니다.
+     *
+     * @param id          주문 ID (TimeOrderedIdGenerator 발급)
+     * @param userId      사용자 ID
+     * @param orderNumber 주문 번호
+     * @param orderAmount 주문 금액
+     * @param orderDate   주문 일시 (생성일 겸용)
+     * @return 저장된 row 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders (id, user_id, order_number, order_amount, order_date, created_at) "
+        + "VALUES (:id, :userId, :orderNumber, :orderAmount, :orderDate, :orderDate)",
+        nativeQuery = true)
+    int insertOrder(@Param("id") Long id,
+                    @Param("userId") Long userId,
+                    @Param("orderNumber") String orderNumber,
+                    @Param("orderAmount") Integer orderAmount,
+                    @Param("orderDate") LocalDateTime orderDate);
 }
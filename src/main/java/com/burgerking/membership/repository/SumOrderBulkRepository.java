@@ -0,0 +1,54 @@
+package com.burgerking.membership.repository;
+
+import com.burgerking.membership.domain.SumOrderDelta;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 누적 주문(sum_orders)을 JDBC 배치로 일괄 반영하는 Repository
+ */
+@Repository
+public class SumOrderBulkRepository {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO sum_orders (user_id, total_amount, order_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), "
+            + "order_count = order_count + VALUES(order_count), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SumOrderBulkRepository(@Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 사용자별 증분을 INSERT ... ON DUPLICATE KEY UPDATE 배치 한 번으로 반영합니다.
+     * (rewriteBatchedStatements=true 이면 multi-row INSERT로 재작성되어 전송됩니다.)
+     *
+     * @param deltas    사용자별 누적 증분 (사용자당 1건)
+     * @param updatedAt 수정일 (신규 생성 시 생성일)
+     */
+    public void upsertAll(Collection<SumOrderDelta> deltas, LocalDateTime updatedAt) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        for (SumOrderDelta delta : deltas) {
+            batchArgs.add(new Object[] {
+                delta.getUserId(), delta.getAmount(), delta.getOrderCount(), timestamp, timestamp
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,63 @@
+package com.burgerking.membership.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 누적 주문(sum_orders)을 JDBC로 직접 다루는 Repository
+ */
+@Repository
+public class SumOrderJdbcRepository {
+
+    private static final String UPSERT_ORDER_SQL =
+        "INSERT INTO sum_orders (user_id, total_amount, order_count, created_at, updated_at) "
+            + "VALUES (?, ?, 1, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE total_amount = LAST_INSERT_ID(total_amount + VALUES(total_amount)), "
+            + "order_count = order_count + 1, updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SumOrderJdbcRepository(@Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 주문 1건을 누적 주문 정보에 원자적으로 반영하고, 반영 후 누적 금액을 반환합니다.
+     * 누적 정보가 없으면 생성하고, 있으면 user_id 유니크 키 충돌 시 금액/횟수를 DB에서 더합니다.
+     * 갱신된 누적 금액은 LAST_INSERT_ID(expr)로 OK 패킷의 last insert id 에 실어 받으므로 별도 조회가 없습니다.
+     *
+     * @param userId    사용자 ID
+     * @param amount    주문 금액
+     * @param updatedAt 수정일 (신규 생성 시 생성일)
+     * @return 반영 후 누적 주문 금액
+     */
+    public int upsertOrder(Long userId, int amount, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affectedRows = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setInt(2, amount);
+            ps.setTimestamp(3, timestamp);
+            ps.setTimestamp(4, timestamp);
+            return ps;
+        }, keyHolder);
+
+        // MySQL: 신규 1 (누적 금액 = 주문 금액), 갱신 2 (누적 금액 = LAST_INSERT_ID)
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (affectedRows == 1 || keys.isEmpty()) {
+            return amount;
+        }
+        return ((Number) keys.get(0).values().iterator().next()).intValue();
+    }
+}
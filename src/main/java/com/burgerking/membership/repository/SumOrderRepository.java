@@ -3,6 +3,9 @@ package com.burgerking.membership.repository;
 
 import com.burgerking.membership.domain.SumOrder;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +20,13 @@ public interface SumOrderRepository extends JpaRepository<SumOrder, Long> {
      * @return Optional<SumOrder>
      */
     SumOrder findByUserId(Long userId);
+
+    /**
+     * 여러 사용자의 누적 주문 정보를 IN 쿼리 한 번으로 조회합니다.
+     * 누적 주문 정보가 없는 사용자는 결과에 포함되지 않습니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return List<SumOrder>
+     */
+    List<SumOrder> findByUserIdIn(Collection<Long> userIds);
 }
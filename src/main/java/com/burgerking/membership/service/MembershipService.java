@@ -1,89 +1,246 @@
 package com.burgerking.membership.service;
 
 
+import com.burgerking.common.id.TimeOrderedIdGenerator;
+import com.burgerking.membership.aggregation.SumOrderWriteBehindBuffer;
+import com.burgerking.membership.cache.MembershipResponseCache;
+import com.burgerking.membership.cache.RecentOrderNumberCache;
 import com.burgerking.membership.domain.Membership;
 import com.burgerking.membership.domain.SumOrder;
 import com.burgerking.membership.domain.Order;
+import com.burgerking.membership.domain.SumOrderDelta;
 import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.exception.MembershipException;
+import com.burgerking.membership.repository.MembershipJdbcRepository;
 import com.burgerking.membership.repository.MembershipRepository;
+import com.burgerking.membership.repository.MonthlyOrderSumBulkRepository;
+import com.burgerking.membership.repository.MonthlyOrderSumRepository;
+import com.burgerking.membership.repository.OrderBulkRepository;
+import com.burgerking.membership.repository.OrderNumberJdbcRepository;
+import com.burgerking.membership.repository.SumOrderBulkRepository;
+import com.burgerking.membership.repository.SumOrderJdbcRepository;
 import com.burgerking.membership.repository.SumOrderRepository;
 import com.burgerking.membership.repository.OrderRepository;
+import com.burgerking.membership.util.BulkTestDataGenerator;
+import com.burgerking.membership.util.MembershipDateUtils;
 import com.burgerking.membership.util.MembershipTestDataGenerator;
+import com.burgerking.membership.util.OrderAmountDistribution;
+import com.burgerking.membership.web.dto.MembershipResponse;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MembershipService {
     
     private final MembershipRepository membershipRepository;
+    private final MembershipJdbcRepository membershipJdbcRepository; // 멤버십 생성 (유니크 키 충돌 시 기존 ID)
     private final SumOrderRepository sumOrderRepository;
+    private final SumOrderJdbcRepository sumOrderJdbcRepository; // SumOrder 원자적 upsert (반영 후 누적 금액 반환)
     private final OrderRepository membershipOrderRepository; // Order 엔티티 저장
+    private final OrderBulkRepository orderBulkRepository; // 주문 일괄 저장 (JDBC 배치)
+    private final OrderNumberJdbcRepository orderNumberJdbcRepository; // 주문 번호 중복 판정
+    private final SumOrderBulkRepository sumOrderBulkRepository; // SumOrder 일괄 upsert (JDBC 배치)
+    private final MonthlyOrderSumRepository monthlyOrderSumRepository; // 월간 주문 집계 upsert
+    private final MonthlyOrderSumBulkRepository monthlyOrderSumBulkRepository; // 월간 주문 집계 일괄 upsert (JDBC 배치)
     private final org.springframework.batch.core.launch.JobLauncher jobLauncher;
     private final org.springframework.batch.core.Job membershipGradeJob;
+    private final org.springframework.batch.core.Job sumOrderRebuildJob;
     private final MembershipTestDataGenerator membershipTestDataGenerator;
+    private final BulkTestDataGenerator bulkTestDataGenerator; // 대용량 더미 데이터 (JDBC 배치, chunk 단위 커밋)
+    private final SumOrderWriteBehindBuffer sumOrderWriteBehindBuffer;
+    private final RecentOrderNumberCache recentOrderNumberCache; // 중복 주문 번호 1차 필터
+    private final MembershipResponseCache membershipResponseCache; // 멤버십 조회 캐시
 
     private final EntityManager entityManager;
 
+    @Value("${membership.inline-promotion.enabled:false}")
+    private boolean inlinePromotionEnabled; // 주문 처리 시 등급 기준을 넘으면 즉시 승급할지 여부
+
     /**
      * 새로운 사용자 멤버십을 생성하거나 기존 멤버십을 조회합니다.
+     * - (membership.cache.membership.enabled) 캐시(로컬 → Redis)에 있으면 DB 왕복 없이 반환합니다.
+     * - 캐시에 없으면 먼저 user_id 로 조회하고, 없을 때만 생성합니다.
+     * - 생성은 INSERT ... ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id) 이므로 동시 첫 요청에도 유니크 키 충돌로 실패하지 않고,
+     *   먼저 생성된 멤버십의 ID를 받아 그 row를 읽어 응답합니다.
+     * 조회와 생성은 각각 자동 커밋으로 실행하여, 생성 후 조회가 동시 요청이 커밋한 row를 볼 수 있게 합니다.
      * @param userId 사용자 ID
-     * @return 멤버십 엔티티
+     * @return 멤버십 응답 DTO
      */
-    @Transactional
-    public Membership createOrGetMembership(Long userId) {
-        return membershipRepository.findByUserId(userId)
-            .orElseGet( () -> {
-                Membership newMembership = Membership.builder()
-                    .userId(userId)
-                    .grade(MembershipGrade.BRONZE) // 초기 등급 설정
-                    .build();
-                return membershipRepository.save(newMembership);
-            });
+    public MembershipResponse createOrGetMembership(Long userId) {
+        return membershipResponseCache.getOrLoad(userId, () -> membershipRepository.findByUserId(userId)
+            .map(MembershipResponse::from)
+            .orElseGet(() -> {
+                LocalDateTime now = LocalDateTime.now().withNano(0); // DATETIME 정밀도에 맞춤
+                long membershipId = membershipJdbcRepository.insertOrGetId(userId, MembershipGrade.BRONZE, now); // 초기 등급 설정
+                return membershipRepository.findById(membershipId)
+                    .map(MembershipResponse::from)
+                    .orElseThrow(() -> MembershipException.membershipNotFound(userId));
+            }));
     }
 
 
     /**
      * 주문이 발생했을 때 멤버십 시스템 관련 데이터를 업데이트합니다.
-     * - Order 엔티티를 저장합니다.
-     * - 해당 누적 SumOrder를 업데이트하거나 생성합니다.
+     * - 이미 처리된 주문 번호(재시도)는 아무것도 반영하지 않습니다. (멱등)
+     * - Order 를 저장합니다.
+     * - 해당 누적 SumOrder와 주문 월의 MonthlyOrderSum을 원자적 upsert로 업데이트하거나 생성합니다.
+     *   (membership.sum-order.write-behind.enabled) 버퍼에 누적 후 주기적으로 일괄 반영합니다.
+     * - (membership.inline-promotion.enabled) 누적 금액이 등급 기준을 넘으면 즉시 등급을 갱신합니다.
      * @param request 주문 처리 요청 DTO
      */
     @Transactional
     public void processOrder(com.burgerking.membership.web.dto.OrderProcessRequest request) {
-        // 1. Order 엔티티 저장 (주문 내역 기록)
-        Order newOrder = Order.builder()
-            .userId(request.getUserId())
-            .orderNumber(request.getOrderNumber())
-            .orderAmount(request.getOrderAmount())
-            .build();
-        membershipOrderRepository.save(newOrder);
+        // 1. 최근 처리된 주문 번호면 DB 왕복 없이 무시
+        if (recentOrderNumberCache.contains(request.getOrderNumber())) {
+            log.debug("중복 주문 무시 (캐시): 주문 번호={}", request.getOrderNumber());
+            return;
+        }
+
+        // 2. 주문 번호 등록. order_numbers 기본 키에 걸리면 중복으로 보고 무시
+        LocalDateTime orderDate = LocalDateTime.now();
+        long orderId = TimeOrderedIdGenerator.getInstance().nextId();
+        boolean reserved = orderNumberJdbcRepository.reserve(request.getOrderNumber(), orderId, orderDate);
+        recentOrderNumberCache.add(request.getOrderNumber());
+        if (!reserved) {
+            log.debug("중복 주문 무시 (DB): 주문 번호={}", request.getOrderNumber());
+            return;
+        }
 
+        // Order 저장 (주문 내역 기록)
+        membershipOrderRepository.insertOrder(
+            orderId, request.getUserId(), request.getOrderNumber(), request.getOrderAmount(), orderDate);
 
-        // 2. SumOrder 업데이트 또는 생성
+        // 3. SumOrder, MonthlyOrderSum 누적
+        YearMonth orderMonth = YearMonth.from(orderDate);
+        if (sumOrderWriteBehindBuffer.isEnabled()) {
+            // write-behind: 증분만 버퍼에 쌓고 반환 (누적 금액을 알 수 없으므로 즉시 승급은 배치에 맡김)
+            sumOrderWriteBehindBuffer.add(request.getUserId(), orderMonth, request.getOrderAmount());
+            return;
+        }
+        // 조회 없이 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영 (반영 후 누적 금액을 함께 받음)
+        int newTotalAmount = sumOrderJdbcRepository.upsertOrder(request.getUserId(), request.getOrderAmount(), orderDate);
+        monthlyOrderSumRepository.upsertOrder(request.getUserId(),
+            MembershipDateUtils.formatYearMonth(orderMonth), request.getOrderAmount(), orderDate);
 
+        // 4. 등급 기준을 넘은 경우에만 즉시 승급
+        if (inlinePromotionEnabled) {
+            promoteIfThresholdCrossed(request.getUserId(), newTotalAmount - request.getOrderAmount(), newTotalAmount);
+        }
+    }
 
-        SumOrder sumOrder = sumOrderRepository.findByUserId(request.getUserId());
+    /**
+     * 여러 주문을 한 트랜잭션으로 일괄 처리합니다.
+     * - 요청 내 중복, 최근 처리 캐시, DB(IN 조회 1회) 순으로 이미 처리된 주문 번호를 제외합니다.
+     * - 주문 번호를 배치로 등록하여, 동시에 같은 주문 번호를 처리한 다른 요청이 먼저 등록한 주문은 제외합니다.
+     * - 주문은 JDBC 배치 INSERT로 저장합니다.
+     * - SumOrder/MonthlyOrderSum 증분은 사용자별로 합산하여 사용자당 upsert 1건으로 반영합니다.
+     * - (membership.inline-promotion.enabled) 누적 금액을 IN 조회 한 번으로 확인해 즉시 승급합니다.
+     * @param requests 주문 처리 요청 DTO 목록
+     */
+    @Transactional
+    public void processOrders(List<com.burgerking.membership.web.dto.OrderProcessRequest> requests) {
+        // 1. 이미 처리된 주문 번호 제외
+        Map<String, com.burgerking.membership.web.dto.OrderProcessRequest> requestByOrderNumber = new LinkedHashMap<>();
+        for (com.burgerking.membership.web.dto.OrderProcessRequest request : requests) {
+            if (!recentOrderNumberCache.contains(request.getOrderNumber())) {
+                requestByOrderNumber.putIfAbsent(request.getOrderNumber(), request);
+            }
+        }
+        if (!requestByOrderNumber.isEmpty()) {
+            for (String orderNumber : orderNumberJdbcRepository.findExistingIn(requestByOrderNumber.keySet())) {
+                requestByOrderNumber.remove(orderNumber);
+                recentOrderNumberCache.add(orderNumber);
+            }
+        }
+        if (requestByOrderNumber.isEmpty()) {
+            return;
+        }
 
-        if(sumOrder == null) {
-            sumOrder = SumOrder.builder()
+        // 2. 주문 번호 등록 후 주문 일괄 저장 및 사용자별 증분 합산
+        LocalDateTime orderDate = LocalDateTime.now(); // 요청 전체를 같은 주문 일시(월 버킷)로 반영
+        YearMonth orderMonth = YearMonth.from(orderDate);
+        TimeOrderedIdGenerator idGenerator = TimeOrderedIdGenerator.getInstance();
+        List<Order> orders = new ArrayList<>(requestByOrderNumber.size());
+        for (com.burgerking.membership.web.dto.OrderProcessRequest request : requestByOrderNumber.values()) {
+            orders.add(Order.builder()
+                .id(idGenerator.nextId())
                 .userId(request.getUserId())
-                .totalAmount(0)
-                .orderCount(0)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
-                .build();
+                .orderNumber(request.getOrderNumber())
+                .orderAmount(request.getOrderAmount())
+                .orderDate(orderDate)
+                .build());
+            recentOrderNumberCache.add(request.getOrderNumber());
+        }
+        // 위의 IN 조회 이후 동시 요청이 같은 주문 번호를 먼저 등록했을 수 있으므로,
+        // 이 호출이 실제로 등록한 주문만 저장하고 증분에 포함합니다. (확인 후 저장 사이의 경합 방지)
+        Set<String> reservedOrderNumbers = orderNumberJdbcRepository.reserveAll(orders, orderDate);
+        orders.removeIf(order -> !reservedOrderNumbers.contains(order.getOrderNumber()));
+        if (orders.isEmpty()) {
+            return;
+        }
+        orderBulkRepository.insertAll(orders);
+
+        Map<Long, SumOrderDelta> deltaByUserId = new LinkedHashMap<>();
+        for (Order order : orders) {
+            deltaByUserId.computeIfAbsent(order.getUserId(), userId -> new SumOrderDelta(userId, orderMonth, 0, 0))
+                .add(order.getOrderAmount(), 1);
+        }
+
+        // 3. SumOrder, MonthlyOrderSum 누적 (사용자당 1건)
+        if (sumOrderWriteBehindBuffer.isEnabled()) {
+            deltaByUserId.values().forEach(delta -> sumOrderWriteBehindBuffer.add(
+                delta.getUserId(), delta.getOrderMonth(), delta.getAmount(), delta.getOrderCount()));
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        sumOrderBulkRepository.upsertAll(deltaByUserId.values(), now);
+        monthlyOrderSumBulkRepository.upsertAll(deltaByUserId.values(), now);
+
+        // 4. 등급 기준을 넘은 사용자만 즉시 승급
+        if (inlinePromotionEnabled) {
+            for (SumOrder sumOrder : sumOrderRepository.findByUserIdIn(deltaByUserId.keySet())) {
+                long deltaAmount = deltaByUserId.get(sumOrder.getUserId()).getAmount();
+                promoteIfThresholdCrossed(sumOrder.getUserId(),
+                    (int) (sumOrder.getTotalAmount() - deltaAmount), sumOrder.getTotalAmount());
+            }
+        }
+    }
+
+    /**
+     * 누적 금액 변화가 등급 기준을 넘었을 때만 멤버십 등급을 갱신합니다.
+     * 누적 금액 기준이므로 평가 기간(rollingWindow) 등급 평가와는 함께 켤 수 없습니다. (MembershipGradeBatchConfig에서 거절)
+     * 기준을 넘지 않으면 추가 조회/갱신 없이 반환합니다.
+     * @param userId 사용자 ID
+     * @param previousTotalAmount 주문 반영 전 누적 금액
+     * @param newTotalAmount 주문 반영 후 누적 금액
+     */
+    private void promoteIfThresholdCrossed(Long userId, int previousTotalAmount, int newTotalAmount) {
+        MembershipGrade previousGrade = MembershipGrade.evaluateGrade(previousTotalAmount);
+        MembershipGrade newGrade = MembershipGrade.evaluateGrade(newTotalAmount);
+        if (previousGrade == newGrade) {
+            return;
         }
 
-        sumOrder.addOrder(request.getOrderAmount()); // 누적 주문 금액 및 횟수 누적
-        sumOrderRepository.save(sumOrder); // 변경된 SumOrder 저장
+        int updatedRows = membershipRepository.updateGradeByUserId(userId, newGrade, LocalDateTime.now());
+        membershipResponseCache.evict(userId);
+        log.info("멤버십 즉시 승급: 사용자 ID={}, {} -> {}, 반영 {} 건", userId, previousGrade, newGrade, updatedRows);
     }
 
     /**
@@ -102,7 +259,7 @@ public class MembershipService {
      */
     @Transactional
     public void runNonOptimizedBatch() {
-        System.out.println("Running non-optimized batch job...");
+        log.info("비최적화 멤버십 등급 배치 시작");
         LocalDateTime evaluationTime = LocalDateTime.now();
 
         List<Membership> allMemberships = membershipRepository.findAll();
@@ -119,26 +276,48 @@ public class MembershipService {
             membership.updateGrade(newGrade, evaluationTime);
             membershipRepository.save(membership);
         }
-        System.out.println("Non-optimized batch job finished.");
+        membershipResponseCache.invalidateAll();
+        log.info("비최적화 멤버십 등급 배치 종료");
     }
 
     /**
      * (테스트용) 최적화된 멤버십 등급 조정 배치를 실행합니다.
      * Spring Batch를 사용하여 처리합니다.
+     * @param options 배치 실행 옵션 (e.g., writerType=JDBC). 비식별 Job 파라미터로 전달됩니다.
      */
-    public void runOptimizedBatch() {
+    public void runOptimizedBatch(Map<String, String> options) {
         try {
-            org.springframework.batch.core.JobParameters jobParameters = new org.springframework.batch.core.JobParametersBuilder()
-                    .addString("time", LocalDateTime.now().toString())
-                    .toJobParameters();
+            org.springframework.batch.core.JobParametersBuilder jobParametersBuilder = new org.springframework.batch.core.JobParametersBuilder()
+                    .addString("time", LocalDateTime.now().toString());
+            options.forEach((name, value) -> jobParametersBuilder.addString(name, value, false));
+            org.springframework.batch.core.JobParameters jobParameters = jobParametersBuilder.toJobParameters();
             jobLauncher.run(membershipGradeJob, jobParameters);
-            System.out.println("Optimized batch job launched successfully.");
+            log.info("최적화 멤버십 등급 배치 실행 완료");
         } catch (Exception e) {
-            System.err.println("Error launching optimized batch job: " + e.getMessage());
+            log.error("최적화 멤버십 등급 배치 실행 실패", e);
             throw new RuntimeException("Failed to launch optimized batch job", e);
         }
     }
     
+    /**
+     * orders 로부터 누적 주문 집계(sum_orders, monthly_order_sums)를 다시 만드는 배치를 실행합니다.
+     * write-behind 버퍼나 주문 보관 기간(retention-months)을 사용 중이면 재집계 결과가 틀어지므로 Job 이 실행을 거절합니다.
+     * @param options 배치 실행 옵션 (e.g., gridSize, poolSize, sliceSize). 비식별 Job 파라미터로 전달됩니다.
+     * @throws MembershipException 현재 설정에서 재집계를 실행할 수 없는 경우 (409)
+     */
+    public void runSumOrderRebuild(Map<String, String> options) {
+        try {
+            org.springframework.batch.core.JobParametersBuilder jobParametersBuilder = new org.springframework.batch.core.JobParametersBuilder()
+                    .addString("time", LocalDateTime.now().toString());
+            options.forEach((name, value) -> jobParametersBuilder.addString(name, value, false));
+            jobLauncher.run(sumOrderRebuildJob, jobParametersBuilder.toJobParameters());
+        } catch (org.springframework.batch.core.JobParametersInvalidException e) {
+            throw MembershipException.sumOrderRebuildNotAllowed(e.getMessage());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to launch sum order rebuild job", e);
+        }
+    }
+
     /**
      * (테스트용) 고객 및 주문 더미 데이터를 생성합니다.
      * @param numberOfMembers 생성할 고객 수
@@ -149,4 +328,23 @@ public class MembershipService {
         membershipTestDataGenerator.generateMembersAndOrders(numberOfMembers, maxOrdersPerMember);
         entityManager.flush();
     }
+
+    /**
+     * (테스트용) 고객 및 주문 더미 데이터를 JDBC 배치로 빠르게 생성합니다.
+     * chunk 단위로 커밋하므로 하나의 트랜잭션으로 묶지 않으며, 실패하면 이미 커밋된 chunk 는 남습니다.
+     * null 인 옵션은 membership.test-data.* 설정값을 사용합니다.
+     * @param numberOfMembers 생성할 고객 수
+     * @param maxOrdersPerMember 한 고객당 최대 주문 수
+     * @param seed 난수 시드 (같은 시드면 같은 데이터)
+     * @param startUserId 첫 회원의 user_id
+     * @param distribution 고객별 평균 주문 금액 분포
+     * @param threads 생성 스레드 수
+     * @param referenceDate 주문 일시를 분산할 평가 기간의 기준일
+     * @return 사용한 시드, 기준일과 생성 건수
+     */
+    public BulkTestDataGenerator.GenerationResult generateTestDataBulk(int numberOfMembers, int maxOrdersPerMember,
+            Long seed, Long startUserId, OrderAmountDistribution distribution, Integer threads, LocalDate referenceDate) {
+        return bulkTestDataGenerator.generateMembersAndOrders(
+            numberOfMembers, maxOrdersPerMember, seed, startUserId, distribution, threads, referenceDate);
+    }
 }
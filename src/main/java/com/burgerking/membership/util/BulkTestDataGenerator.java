@@ -0,0 +1,269 @@
+package com.burgerking.membership.util;
+
+import com.burgerking.common.id.TimeOrderedIdGenerator;
+import com.burgerking.membership.domain.enums.MembershipGrade;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대용량 테스트 데이터 생성기 (MembershipTestDataGenerator 의 고속 모드)
+ * - 주문을 만들면서 누적/월간 주문 집계를 메모리에서 계산하므로 주문마다 조회/저장하지 않습니다.
+ * - 회원 chunk-size 명 단위로 members, orders, order_numbers, sum_orders, monthly_order_sums 를
+ *   JDBC 배치 INSERT로 저장하고 chunk 마다 커밋하여, 영속성 컨텍스트와 긴 트랜잭션 없이 힙 사용량을 일정하게 유지합니다.
+ * - 주문 일시는 기준일(미지정 시 오늘)이 속한 월의 등급 평가 기간(MembershipDateUtils) 안에서 무작위로 정하므로
+ *   rollingWindow 평가에도 그대로 쓸 수 있습니다.
+ * - chunk(user_id 구간)마다 시드에서 split 한 SplittableRandom 을 하나씩 쓰고 여러 스레드에서 병렬로 생성합니다.
+ *   구간별 난수 스트림은 스레드 수나 실행 순서와 무관하므로, 같은 시드/시작 user_id/회원 수/chunk-size/분포 설정이면
+ *   기준일을 고정하면 실행 날짜와 무관하게 회원, 주문 금액, 주문 번호, 주문 일시가 동일하게 재현됩니다.
+ *   (주문 id 는 시간순 발급이라 예외)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TestDataProperties.class)
+public class BulkTestDataGenerator {
+
+    private static final String INSERT_MEMBER_SQL =
+        "INSERT INTO members (user_id, grade, last_evaluation_date, next_evaluation_date, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_SQL =
+        "INSERT INTO orders (id, user_id, order_number, order_amount, order_date, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_NUMBER_SQL =
+        "INSERT INTO order_numbers (order_number, order_id, created_at) VALUES (?, ?, ?)";
+    private static final String INSERT_SUM_ORDER_SQL =
+        "INSERT INTO sum_orders (user_id, total_amount, order_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_MONTHLY_ORDER_SUM_SQL =
+        "INSERT INTO monthly_order_sums (user_id, order_month, total_amount, order_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TestDataProperties properties;
+
+    public BulkTestDataGenerator(
+            @Qualifier("membershipJdbcTemplate") JdbcTemplate jdbcTemplate,
+            @Qualifier("membershipTransactionManager") PlatformTransactionManager transactionManager,
+            TestDataProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    /**
+     * 회원과 주문, 누적/월간 주문 집계를 생성합니다.
+     * null 인 옵션은 membership.test-data.* 설정값을 사용합니다.
+     * @param numberOfMembers 생성할 고객 수
+     * @param maxOrdersPerMember 한 고객당 최대 주문 수
+     * @param seed 난수 시드
+     * @param startUserId 첫 회원의 user_id
+     * @param distribution 고객별 평균 주문 금액 분포
+     * @param threads 생성 스레드 수
+     * @param referenceDate 평가 기간과 생성 일시의 기준일
+     * @return 사용한 시드, 기준일과 생성 건수
+     */
+    public GenerationResult generateMembersAndOrders(int numberOfMembers, int maxOrdersPerMember, Long seed,
+            Long startUserId, OrderAmountDistribution distribution, Integer threads, LocalDate referenceDate) {
+        long resolvedSeed = seed != null ? seed
+            : properties.getSeed() != null ? properties.getSeed() : ThreadLocalRandom.current().nextLong();
+        long firstUserId = startUserId != null ? startUserId : properties.getStartUserId();
+        OrderAmountDistribution amountDistribution =
+            distribution != null ? distribution : properties.getAmount().getDistribution();
+        int threadCount = threads != null && threads > 0 ? threads
+            : properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        int chunkSize = properties.getChunkSize();
+        LocalDate fixedReferenceDate = referenceDate != null ? referenceDate : properties.getReferenceDate();
+
+        long startNanos = System.nanoTime();
+        // 기준일을 지정하면 생성 일시도 기준일 0시로 고정하여 실행 시각에 따라 데이터가 달라지지 않게 합니다.
+        LocalDateTime now = fixedReferenceDate != null ? fixedReferenceDate.atStartOfDay() : LocalDateTime.now();
+        LocalDate resolvedReferenceDate = now.toLocalDate();
+        YearMonth referenceMonth = YearMonth.from(resolvedReferenceDate);
+        LocalDateTime windowStart = MembershipDateUtils.getEvaluationStartMonth(referenceMonth).atDay(1).atStartOfDay();
+        long windowSeconds = Duration.between(windowStart,
+            MembershipDateUtils.getEvaluationEndMonth(referenceMonth).plusMonths(1).atDay(1).atStartOfDay()).getSeconds();
+
+        // 구간별 난수 스트림은 제출 스레드에서 순서대로 split 하여 병렬 실행 순서와 무관하게 고정합니다.
+        SplittableRandom seedRandom = new SplittableRandom(resolvedSeed);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, new GeneratorThreadFactory());
+        List<Future<Integer>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < numberOfMembers; from += chunkSize) {
+                long fromUserId = firstUserId + from;
+                long toUserId = firstUserId + Math.min(from + chunkSize, numberOfMembers);
+                SplittableRandom random = seedRandom.split();
+                futures.add(executor.submit(() -> {
+                    Chunk chunk = createChunk(fromUserId, toUserId, maxOrdersPerMember, random, amountDistribution,
+                        now, windowStart, windowSeconds);
+                    transactionTemplate.executeWithoutResult(status -> insert(chunk));
+                    log.debug("테스트 데이터 생성 - user_id {} ~ {}", fromUserId, toUserId - 1);
+                    return chunk.orders.size();
+                }));
+            }
+            long orderCount = 0;
+            for (Future<Integer> future : futures) {
+                orderCount += future.get();
+            }
+            log.info("테스트 데이터 생성 완료 - seed {}, 기준일 {}, 분포 {}, 회원 {} 명, 주문 {} 건, 스레드 {} ({} ms)",
+                resolvedSeed, resolvedReferenceDate, amountDistribution, numberOfMembers, orderCount, threadCount,
+                (System.nanoTime() - startNanos) / 1_000_000);
+            return new GenerationResult(resolvedSeed, resolvedReferenceDate, numberOfMembers, orderCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("테스트 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("테스트 데이터 생성에 실패했습니다. (seed " + resolvedSeed + ")", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * [fromUserId, toUserId) 구간 회원의 주문을 만들고 누적/월간 집계를 메모리에서 계산합니다.
+     * 고객마다 평균 주문 금액을 분포에서 한 번 뽑고, 각 주문은 그 금액의 50% ~ 150% 사이로 정합니다.
+     */
+    private Chunk createChunk(long fromUserId, long toUserId, int maxOrdersPerMember, SplittableRandom random,
+            OrderAmountDistribution distribution, LocalDateTime now, LocalDateTime windowStart, long windowSeconds) {
+        TestDataProperties.Amount amount = properties.getAmount();
+        TimeOrderedIdGenerator idGenerator = TimeOrderedIdGenerator.getInstance();
+
+        Chunk chunk = new Chunk(now);
+        for (long userId = fromUserId; userId < toUserId; userId++) {
+            chunk.userIds.add(userId);
+            int numOrders = random.nextInt(maxOrdersPerMember) + 1; // 1개 이상 주문
+            double averageAmount = distribution.sample(random, amount);
+            long totalAmount = 0;
+            Map<YearMonth, long[]> monthlyAmountAndCount = new HashMap<>();
+            for (int i = 0; i < numOrders; i++) {
+                int orderAmount = roundAmount(averageAmount * (0.5 + random.nextDouble()), amount);
+                LocalDateTime orderDate = windowStart.plusSeconds((long) (random.nextDouble() * windowSeconds));
+                String orderNumber = new UUID(random.nextLong(), random.nextLong()).toString();
+                chunk.orders.add(new Object[] {
+                    idGenerator.nextId(), userId, orderNumber, orderAmount, Timestamp.valueOf(orderDate)
+                });
+                totalAmount += orderAmount;
+                long[] monthly = monthlyAmountAndCount.computeIfAbsent(YearMonth.from(orderDate), month -> new long[2]);
+                monthly[0] += orderAmount;
+                monthly[1]++;
+            }
+            chunk.sumOrders.add(new Object[] {userId, totalAmount, numOrders});
+            for (Map.Entry<YearMonth, long[]> monthly : monthlyAmountAndCount.entrySet()) {
+                chunk.monthlyOrderSums.add(new Object[] {
+                    userId, MembershipDateUtils.formatYearMonth(monthly.getKey()), monthly.getValue()[0], monthly.getValue()[1]
+                });
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * 주문 금액을 단위로 반올림하고 [단위, 주문 1건 상한] 범위로 제한합니다.
+     */
+    private static int roundAmount(double value, TestDataProperties.Amount amount) {
+        long rounded = Math.round(value / amount.getUnit()) * amount.getUnit();
+        return (int) Math.min(Math.max(rounded, amount.getUnit()), amount.getOrderAmountCap());
+    }
+
+    private void insert(Chunk chunk) {
+        Timestamp now = Timestamp.valueOf(chunk.createdAt);
+        Timestamp nextEvaluation = Timestamp.valueOf(chunk.createdAt.plusMonths(1));
+
+        jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, chunk.userIds, chunk.userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, MembershipGrade.BRONZE.name()); // 초기 등급은 BRONZE
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, nextEvaluation);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, chunk.orders, chunk.orders.size(), (ps, order) -> {
+            ps.setLong(1, (Long) order[0]);
+            ps.setLong(2, (Long) order[1]);
+            ps.setString(3, (String) order[2]);
+            ps.setInt(4, (Integer) order[3]);
+            ps.setTimestamp(5, (Timestamp) order[4]);
+            ps.setTimestamp(6, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_ORDER_NUMBER_SQL, chunk.orders, chunk.orders.size(), (ps, order) -> {
+            ps.setString(1, (String) order[2]);
+            ps.setLong(2, (Long) order[0]);
+            ps.setTimestamp(3, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_SUM_ORDER_SQL, chunk.sumOrders, chunk.sumOrders.size(), (ps, sumOrder) -> {
+            ps.setLong(1, (Long) sumOrder[0]);
+            ps.setLong(2, (Long) sumOrder[1]);
+            ps.setInt(3, (Integer) sumOrder[2]);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_MONTHLY_ORDER_SUM_SQL, chunk.monthlyOrderSums, chunk.monthlyOrderSums.size(),
+            (ps, monthly) -> {
+                ps.setLong(1, (Long) monthly[0]);
+                ps.setString(2, (String) monthly[1]);
+                ps.setLong(3, (Long) monthly[2]);
+                ps.setLong(4, (Long) monthly[3]);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            });
+    }
+
+    /**
+     * 생성 결과
+     * @param seed 사용한 난수 시드 (같은 시드로 다시 실행하면 같은 데이터)
+     * @param referenceDate 사용한 기준일 (같은 기준일이어야 같은 주문 일시가 재현됨)
+     * @param memberCount 생성한 회원 수
+     * @param orderCount 생성한 주문 수
+     */
+    public record GenerationResult(long seed, LocalDate referenceDate, long memberCount, long orderCount) {
+    }
+
+    /**
+     * 생성 스레드 이름 지정 (test-data-1, test-data-2, ...)
+     */
+    private static final class GeneratorThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "test-data-" + sequence.incrementAndGet());
+        }
+    }
+
+    /**
+     * 한 번에 커밋할 회원 구간의 생성 데이터
+     */
+    private static final class Chunk {
+        private final LocalDateTime createdAt;
+        private final List<Long> userIds = new ArrayList<>();
+        private final List<Object[]> orders = new ArrayList<>();           // id, user_id, order_number, order_amount, order_date
+        private final List<Object[]> sumOrders = new ArrayList<>();        // user_id, total_amount, order_count
+        private final List<Object[]> monthlyOrderSums = new ArrayList<>(); // user_id, order_month, total_amount, order_count
+
+        private Chunk(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -63,13 +63,27 @@ public class MembershipDateUtils {
      * 멤버십 등급 평가 기간의 시작월 계산 (현재 기준 3개월 전)
      */
     public static YearMonth getEvaluationStartMonth() {
-        return YearMonth.now().minusMonths(3);
+        return getEvaluationStartMonth(YearMonth.now());
     }
     
     /**
      * 멤버십 등급 평가 기간의 종료월 계산 (현재 기준 직전 월)
      */
     public static YearMonth getEvaluationEndMonth() {
-        return YearMonth.now().minusMonths(1);
+        return getEvaluationEndMonth(YearMonth.now());
+    }
+    
+    /**
+     * 기준월로 평가할 때의 평가 기간 시작월 (기준월 3개월 전)
+     */
+    public static YearMonth getEvaluationStartMonth(YearMonth referenceMonth) {
+        return referenceMonth.minusMonths(3);
+    }
+    
+    /**
+     * 기준월로 평가할 때의 평가 기간 종료월 (기준월 직전 월)
+     */
+    public static YearMonth getEvaluationEndMonth(YearMonth referenceMonth) {
+        return referenceMonth.minusMonths(1);
     }
 }
\ No newline at end of file
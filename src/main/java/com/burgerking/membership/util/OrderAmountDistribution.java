@@ -0,0 +1,35 @@
+package com.burgerking.membership.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * 테스트 데이터의 고객별 평균 주문 금액 분포
+ * - UNIFORM: [minAmount, maxAmount] 균등 분포 (기존 생성기와 같은 범위)
+ * - LOG_NORMAL: 중앙값 medianAmount, 표준편차 sigma 인 로그정규 분포 (소수의 고액 고객)
+ * - PARETO: 최솟값 minAmount, 형상 계수 paretoAlpha 인 파레토 분포 (alpha 가 작을수록 꼬리가 두꺼워 VIP 비율 증가)
+ */
+public enum OrderAmountDistribution {
+    UNIFORM {
+        @Override
+        double sample(SplittableRandom random, TestDataProperties.Amount amount) {
+            return amount.getMinAmount() + random.nextDouble() * (amount.getMaxAmount() - amount.getMinAmount());
+        }
+    },
+    LOG_NORMAL {
+        @Override
+        double sample(SplittableRandom random, TestDataProperties.Amount amount) {
+            return amount.getMedianAmount() * Math.exp(amount.getSigma() * random.nextGaussian());
+        }
+    },
+    PARETO {
+        @Override
+        double sample(SplittableRandom random, TestDataProperties.Amount amount) {
+            return amount.getMinAmount() / Math.pow(1.0 - random.nextDouble(), 1.0 / amount.getParetoAlpha());
+        }
+    };
+
+    /**
+     * 고객 한 명의 평균 주문 금액을 뽑습니다.
+     */
+    abstract double sample(SplittableRandom random, TestDataProperties.Amount amount);
+}
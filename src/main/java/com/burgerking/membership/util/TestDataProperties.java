@@ -0,0 +1,93 @@
+package com.burgerking.membership.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+
+/**
+ * 대용량 테스트 데이터 생성 설정입니다. (membership.test-data.*)
+ * 같은 이름의 요청 파라미터가 있으면 요청 파라미터가 우선합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "membership.test-data")
+public class TestDataProperties {
+
+    /**
+     * 한 트랜잭션에서 커밋할 회원 수 (= 하나의 난수 스트림이 담당하는 user_id 구간 크기)
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 생성 스레드 수 (0이면 CPU 코어 수, 커넥션 풀 크기 이내로)
+     */
+    private int threads = 0;
+
+    /**
+     * 첫 회원의 user_id
+     */
+    private long startUserId = 2000L;
+
+    /**
+     * 난수 시드 (미지정 시 매 실행마다 임의로 정하고 로그에 남김)
+     */
+    private Long seed;
+
+    /**
+     * 기준일 (미지정 시 오늘) - 주문 일시는 이 날짜가 속한 월의 평가 기간(3개월 전 ~ 직전 월)에 분산되고,
+     * 회원 생성/평가 일시는 이 날짜 0시로 기록합니다. 고정하면 실행 날짜와 무관하게 같은 데이터가 재현됩니다.
+     */
+    private LocalDate referenceDate;
+
+    /**
+     * 주문 금액 분포 설정
+     */
+    private final Amount amount = new Amount();
+
+    @Getter
+    @Setter
+    public static class Amount {
+
+        /**
+         * 고객별 평균 주문 금액 분포
+         */
+        private OrderAmountDistribution distribution = OrderAmountDistribution.UNIFORM;
+
+        /**
+         * 최소 주문 금액 (UNIFORM 하한, PARETO 최솟값)
+         */
+        private int minAmount = 5000;
+
+        /**
+         * 최대 주문 금액 (UNIFORM 상한)
+         */
+        private int maxAmount = 54000;
+
+        /**
+         * 주문 1건 금액 상한 (두꺼운 꼬리 분포의 극단값이 누적 금액 INT 범위를 넘지 않도록 제한)
+         */
+        private int orderAmountCap = 1000000;
+
+        /**
+         * LOG_NORMAL 중앙값
+         */
+        private int medianAmount = 15000;
+
+        /**
+         * LOG_NORMAL 로그 표준편차
+         */
+        private double sigma = 0.8;
+
+        /**
+         * PARETO 형상 계수
+         */
+        private double paretoAlpha = 1.5;
+
+        /**
+         * 주문 금액 단위 (반올림)
+         */
+        private int unit = 1000;
+    }
+}
@@ -1,17 +1,37 @@
 package com.burgerking.membership.web;
 
-import com.burgerking.membership.domain.Membership;
+import com.burgerking.membership.ingest.OrderIngestionQueue;
 import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.util.BulkTestDataGenerator;
+import com.burgerking.membership.util.OrderAmountDistribution;
 import com.burgerking.membership.web.dto.MembershipResponse;
+import com.burgerking.membership.web.dto.OrderProcessRequest;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 
 @Tag(name = "Membership API", description = "멤버십 관련 API")
 @RestController
@@ -20,6 +40,14 @@ import org.springframework.web.bind.annotation.*;
 public class MembershipController {
     
     private final MembershipService membershipService;
+    private final ObjectMapper objectMapper;
+    private final OrderIngestionQueue orderIngestionQueue;
+    private final Validator validator; // 일괄 주문은 @Valid 대신 건별로 검증
+
+    private static final int MAX_REPORTED_INVALID_ORDERS = 100; // 응답에 담을 검증 실패 주문 수 상한
+
+    @Value("${membership.order.bulk.batch-size:1000}")
+    private int bulkBatchSize; // 일괄 주문 처리 시 트랜잭션 1건당 주문 수
 
     /**
      * 특정 사용자의 멤버십 정보를 조회합니다.
@@ -31,8 +59,7 @@ public class MembershipController {
     @Parameter(name = "userId", description = "사용자 ID", required = true, example = "1")
     @GetMapping("/{userId}")
     public ResponseEntity<MembershipResponse> getOrCreateMembership(@PathVariable Long userId) {
-        Membership membership = membershipService.createOrGetMembership(userId);
-        return ResponseEntity.ok(MembershipResponse.from(membership));
+        return ResponseEntity.ok(membershipService.createOrGetMembership(userId));
     }
 
 
@@ -52,14 +79,34 @@ public class MembershipController {
     /**
      * (테스트용) 최적화된 멤버십 등급 조정 배치를 실행합니다.
      * POST /api/membership/adjust-batch-optimized
+     * 쿼리 파라미터는 배치 실행 옵션으로 Job 파라미터에 그대로 전달됩니다. (e.g., ?writerType=JDBC)
      */
-    @Operation(summary = "(테스트용) 최적화된 멤버십 등급 조정 배치 실행", description = "최적화된 방식으로 멤버십 등급 조정 배치를 실행합니다.")
+    @Operation(summary = "(테스트용) 최적화된 멤버십 등급 조정 배치 실행", description = "최적화된 방식으로 멤버십 등급 조정 배치를 실행합니다. 쿼리 파라미터는 Job 파라미터로 전달됩니다.")
     @ApiResponse(responseCode = "200", description = "최적화된 배치 작업 시작")
     @PostMapping("/adjust-batch-optimized")
-    public ResponseEntity<String> runOptimizedBatch() {
-        membershipService.runOptimizedBatch();
+    public ResponseEntity<String> runOptimizedBatch(
+        @Parameter(description = "배치 실행 옵션 (e.g., writerType=JDBC)")
+        @RequestParam Map<String, String> options
+    ) {
+        membershipService.runOptimizedBatch(options);
         return ResponseEntity.ok("Optimized batch job started.");
     }
+    /**
+     * orders 로부터 누적 주문 집계를 다시 만드는 배치를 실행합니다.
+     * POST /api/membership/rebuild-sum-orders
+     * 쿼리 파라미터는 배치 실행 옵션으로 Job 파라미터에 그대로 전달됩니다. (e.g., ?poolSize=8&sliceSize=1000)
+     */
+    @Operation(summary = "누적 주문 집계 재생성 배치 실행", description = "orders 로부터 sum_orders, monthly_order_sums 를 user_id 구간별로 병렬 재집계합니다. 쿼리 파라미터는 Job 파라미터로 전달됩니다.")
+    @ApiResponse(responseCode = "200", description = "재집계 배치 작업 완료")
+    @ApiResponse(responseCode = "409", description = "write-behind 버퍼 또는 주문 보관 기간 사용 중이라 재집계 불가")
+    @PostMapping("/rebuild-sum-orders")
+    public ResponseEntity<String> runSumOrderRebuild(
+        @Parameter(description = "배치 실행 옵션 (e.g., poolSize=8, sliceSize=1000)")
+        @RequestParam Map<String, String> options
+    ) {
+        membershipService.runSumOrderRebuild(options);
+        return ResponseEntity.ok("Sum order rebuild job finished.");
+    }
     /**
      * (테스트용) 고객 및 주문 더미 데이터를 생성합니다.
      * POST /api/membership/generate-test-data
@@ -71,20 +118,114 @@ public class MembershipController {
         @Parameter(name = "numberOfMembers", description = "생성할 고객 수", required = true, example = "100")
         @RequestParam int numberOfMembers,
         @Parameter(name = "maxOrdersPerMember", description = "한 고객당 최대 주문 수", required = true, example = "50")
-        @RequestParam int maxOrdersPerMember
+        @RequestParam int maxOrdersPerMember,
+        @Parameter(name = "bulk", description = "JDBC 배치로 chunk 단위 커밋하며 대량 생성 (주문 일시는 등급 평가 기간에 분산)", example = "false")
+        @RequestParam(defaultValue = "false") boolean bulk,
+        @Parameter(name = "seed", description = "(bulk) 난수 시드, 같은 시드면 같은 데이터 (미지정 시 임의)", example = "42")
+        @RequestParam(required = false) Long seed,
+        @Parameter(name = "startUserId", description = "(bulk) 첫 회원의 user_id", example = "2000")
+        @RequestParam(required = false) Long startUserId,
+        @Parameter(name = "distribution", description = "(bulk) 고객별 평균 주문 금액 분포 (UNIFORM, LOG_NORMAL, PARETO)", example = "PARETO")
+        @RequestParam(required = false) OrderAmountDistribution distribution,
+        @Parameter(name = "threads", description = "(bulk) 생성 스레드 수 (미지정 시 CPU 코어 수)", example = "8")
+        @RequestParam(required = false) Integer threads,
+        @Parameter(name = "referenceDate", description = "(bulk) 기준일, 주문 일시는 이 날짜 기준 평가 기간(3개월 전 ~ 직전 월)에 분산 (미지정 시 오늘)", example = "2025-10-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate referenceDate
     ) {
+        if (bulk) {
+            BulkTestDataGenerator.GenerationResult result = membershipService.generateTestDataBulk(
+                numberOfMembers, maxOrdersPerMember, seed, startUserId, distribution, threads, referenceDate);
+            return ResponseEntity.status(HttpStatus.OK).body(result.memberCount() + "명의 고객과 " + result.orderCount()
+                + "건의 주문 더미 데이터가 생성되었습니다. (seed " + result.seed() + ", 기준일 " + result.referenceDate() + ")");
+        }
         membershipService.generateTestData(numberOfMembers, maxOrdersPerMember);
         return ResponseEntity.status(HttpStatus.OK).body(numberOfMembers + "명의 고객과 최대 " + maxOrdersPerMember + "건의 주문 더미 데이터가 생성되었습니다.");
     }
     /**
      * 신규 주문을 처리합니다.
      * POST /api/membership/orders
+     * (membership.order.async.enabled) 주문을 큐에 접수만 하고 202를 반환하며, 큐가 가득 차면 429를 반환합니다.
      */
-    @Operation(summary = "신규 주문 처리", description = "신규 주문 정보를 받아 처리하고, 멤버십 등급에 반영합니다.")
+    @Operation(summary = "신규 주문 처리", description = "신규 주문 정보를 받아 처리하고, 멤버십 등급에 반영합니다. 비동기 접수 모드에서는 접수 후 202를 반환합니다.")
     @ApiResponse(responseCode = "200", description = "주문 처리 성공")
+    @ApiResponse(responseCode = "202", description = "주문 접수 성공 (비동기 접수 모드)")
+    @ApiResponse(responseCode = "429", description = "접수 대기열이 가득 참 (비동기 접수 모드)")
     @PostMapping("/orders")
-    public ResponseEntity<Void> processOrder(@RequestBody com.burgerking.membership.web.dto.OrderProcessRequest request) {
+    public ResponseEntity<Void> processOrder(@Valid @RequestBody OrderProcessRequest request) {
+        if (orderIngestionQueue.isEnabled()) {
+            if (!orderIngestionQueue.offer(request)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+            }
+            return ResponseEntity.accepted().build();
+        }
         membershipService.processOrder(request);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 여러 주문을 일괄 처리합니다.
+     * POST /api/membership/orders/bulk
+     * JSON 배열 또는 NDJSON(한 줄에 주문 1건)을 스트리밍으로 읽어 batch-size 건씩 한 트랜잭션으로 처리합니다.
+     * 단건 API의 @Valid와 같은 기준으로 주문마다 검증하여, 검증에 실패한 주문은 처리하지 않고 위치(0부터)와 사유를 400으로 응답합니다.
+     * (유효한 주문은 이미 반영되며, 주문 번호 기준으로 멱등하므로 요청 전체를 고쳐 다시 보내도 됩니다.)
+     */
+    @Operation(summary = "주문 일괄 처리", description = "JSON 배열 또는 NDJSON 형식의 주문 목록을 받아 일괄 처리하고, 멤버십 등급에 반영합니다.")
+    @ApiResponse(responseCode = "200", description = "주문 일괄 처리 성공")
+    @ApiResponse(responseCode = "400", description = "검증에 실패한 주문 제외 (나머지 주문은 처리됨)")
+    @PostMapping(value = "/orders/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<String> processOrders(InputStream body) throws IOException {
+        int processedCount = 0;
+        int index = 0;
+        List<String> invalidOrders = new ArrayList<>();
+        int invalidCount = 0;
+        List<OrderProcessRequest> batch = new ArrayList<>(bulkBatchSize);
+        try (MappingIterator<OrderProcessRequest> requests = objectMapper.readerFor(OrderProcessRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                OrderProcessRequest request = requests.nextValue();
+                int position = index++;
+                String violations = validate(request);
+                if (violations != null) {
+                    invalidCount++;
+                    if (invalidOrders.size() < MAX_REPORTED_INVALID_ORDERS) {
+                        invalidOrders.add("#" + position + " " + violations);
+                    }
+                    continue;
+                }
+                batch.add(request);
+                if (batch.size() == bulkBatchSize) {
+                    membershipService.processOrders(batch);
+                    processedCount += batch.size();
+                    batch = new ArrayList<>(bulkBatchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            membershipService.processOrders(batch);
+            processedCount += batch.size();
+        }
+        if (invalidCount > 0) {
+            return ResponseEntity.badRequest().body(processedCount + "건의 주문이 처리되었고, " + invalidCount
+                + "건은 유효하지 않아 제외되었습니다. " + String.join(" ", invalidOrders));
+        }
+        return ResponseEntity.ok(processedCount + "건의 주문이 처리되었습니다.");
+    }
+
+    /**
+     * 주문 1건을 검증합니다.
+     * @return 검증 실패 사유 (유효하면 null)
+     */
+    private String validate(OrderProcessRequest request) {
+        if (request == null) {
+            return "[주문](은)는 null 일 수 없습니다.";
+        }
+        Set<ConstraintViolation<OrderProcessRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> "[" + violation.getPropertyPath() + "](은)는 " + violation.getMessage()
+                + " 입력된 값: [" + violation.getInvalidValue() + "]")
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
 }
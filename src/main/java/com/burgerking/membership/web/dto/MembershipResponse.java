@@ -5,11 +5,13 @@ import com.burgerking.membership.domain.enums.MembershipGrade;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@Jacksonized // 캐시(Redis)에서 역직렬화할 때 빌더 사용
 @Schema(description = "멤버십 응답 DTO")
 public class MembershipResponse {
     @Schema(description = "멤버십 ID", example = "1")
@@ -1,9 +1,13 @@
 -- membership_db 초기화 스크립트
+-- 모든 테이블을 DROP 후 다시 만듭니다. local-dev 프로파일은 이 스크립트를 자동 실행하지 않으므로 처음 실행 전에 적용하세요.
+-- (order_numbers, 월 파티션 orders 는 JPA ddl-auto 로 만들어지지 않습니다.)
 
 USE membership_db;
 
 DROP TABLE IF EXISTS orders;
+DROP TABLE IF EXISTS order_numbers;
 DROP TABLE IF EXISTS sum_orders;
+DROP TABLE IF EXISTS monthly_order_sums;
 DROP TABLE IF EXISTS members;
 
 CREATE TABLE members (
@@ -17,14 +21,31 @@ CREATE TABLE members (
     UNIQUE KEY (user_id)
 );
 
+-- order_date 월 단위 RANGE 파티션 (기간 조회는 해당 월 파티션만 읽고, 보관 기간이 지난 월은 DROP PARTITION)
+-- 파티션 테이블의 유니크 키는 파티션 컬럼을 포함해야 하므로 기본 키는 (id, order_date)이며,
+-- 외래 키를 둘 수 없고 주문 번호 중복 방지는 order_numbers 가 담당합니다.
+-- 월 파티션은 orderPartitionMaintenanceJob 이 pmax 를 나누어 미리 만듭니다.
 CREATE TABLE orders (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT NOT NULL, -- 애플리케이션 발급 시간순 ID (TimeOrderedIdGenerator)
     user_id BIGINT NOT NULL,
     order_number VARCHAR(255) NOT NULL,
     order_amount INT NOT NULL,
     order_date DATETIME NOT NULL,
     created_at DATETIME NOT NULL,
-    FOREIGN KEY (user_id) REFERENCES members(user_id)
+    PRIMARY KEY (id, order_date),
+    INDEX idx_orders_user_id_order_date (user_id, order_date),
+    INDEX idx_orders_order_number (order_number)
+)
+PARTITION BY RANGE COLUMNS (order_date) (
+    PARTITION p_archive VALUES LESS THAN ('2026-01-01 00:00:00'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- 처리된 주문 번호 (주문 중복 방지, 파티션하지 않음)
+CREATE TABLE order_numbers (
+    order_number VARCHAR(255) NOT NULL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    created_at DATETIME NOT NULL
 );
 
 CREATE TABLE sum_orders (
@@ -33,7 +54,20 @@ CREATE TABLE sum_orders (
     total_amount INT NOT NULL DEFAULT 0,
     order_count INT NOT NULL DEFAULT 0,
     created_at DATETIME NOT NULL,
-    updated_at DATETIME NOT NULL
+    updated_at DATETIME NOT NULL,
+    INDEX idx_sum_orders_updated_at (updated_at)
+);
+
+-- 사용자별 월간 주문 집계 (등급 평가 기간 합산용)
+CREATE TABLE monthly_order_sums (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    order_month VARCHAR(7) NOT NULL, -- yyyy-MM
+    total_amount INT NOT NULL DEFAULT 0,
+    order_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    UNIQUE KEY uk_monthly_order_sums_user_month (user_id, order_month)
 );
 
 -- Spring Batch 메타데이터 테이블
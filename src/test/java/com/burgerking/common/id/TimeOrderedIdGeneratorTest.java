@@ -0,0 +1,89 @@
+package com.burgerking.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimeOrderedIdGenerator 단위 테스트입니다.
+ * 시계를 고정하여 밀리초 내 순번 소진과 시계 역행 상황을 재현합니다.
+ */
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    private static final int SEQUENCE_BITS = 12;
+    private static final int SEQUENCES_PER_MILLIS = 1 << SEQUENCE_BITS;
+
+    @Test
+    @DisplayName("연속 발급한 ID는 단조 증가한다")
+    void nextIdIsMonotonic() {
+        TimeOrderedIdGenerator generator = TimeOrderedIdGenerator.getInstance();
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous, "ID가 증가하지 않았습니다: " + previous + " -> " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번을 다 쓰면 다음 밀리초로 넘어가고 순번은 0부터 다시 시작한다")
+    void sequenceRollsOverWithinSameMillis() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1L, () -> NOW);
+
+        long first = generator.nextId();
+        long previous = first;
+        for (int i = 1; i < SEQUENCES_PER_MILLIS; i++) {
+            long next = generator.nextId();
+            assertEquals(previous + 1, next);
+            previous = next;
+        }
+        assertEquals(SEQUENCES_PER_MILLIS - 1, sequenceOf(previous));
+        assertEquals(timestampOf(first), timestampOf(previous));
+
+        long rolledOver = generator.nextId();
+
+        assertTrue(rolledOver > previous);
+        assertEquals(0, sequenceOf(rolledOver));
+        assertEquals(timestampOf(first) + 1, timestampOf(rolledOver));
+        assertEquals(1L, nodeIdOf(rolledOver));
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 마지막 시각을 이어서 사용하여 ID가 줄어들지 않는다")
+    void clockMovingBackwardsKeepsIdsIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(0L, clock::get);
+
+        long beforeRewind = generator.nextId();
+        clock.set(NOW - 1_000);
+        long afterRewind = generator.nextId();
+
+        assertTrue(afterRewind > beforeRewind);
+        assertEquals(timestampOf(beforeRewind), timestampOf(afterRewind));
+        assertEquals(1, sequenceOf(afterRewind));
+    }
+
+    @Test
+    @DisplayName("노드 ID는 0 ~ 1023 범위만 허용한다")
+    void rejectsOutOfRangeNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1L, () -> NOW));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(1024L, () -> NOW));
+    }
+
+    private static long sequenceOf(long id) {
+        return id & (SEQUENCES_PER_MILLIS - 1);
+    }
+
+    private static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & 0x3FF;
+    }
+
+    private static long timestampOf(long id) {
+        return id >>> (SEQUENCE_BITS + 10);
+    }
+}
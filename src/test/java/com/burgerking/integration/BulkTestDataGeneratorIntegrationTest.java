@@ -0,0 +1,151 @@
+package com.burgerking.integration;
+
+import com.burgerking.membership.util.BulkTestDataGenerator;
+import com.burgerking.membership.util.TestDataProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 대용량 테스트 데이터 생성기(BulkTestDataGenerator)의 통합 테스트 클래스입니다.
+ * 생성기가 chunk 마다 직접 커밋하므로 테스트 트랜잭션을 사용하지 않고, 생성 구간(user_id 2000번부터)을 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class BulkTestDataGeneratorIntegrationTest {
+
+    private static final long FIRST_USER_ID = 2000L;
+    private static final int NUMBER_OF_MEMBERS = 5;
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2026, 5, 15);
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("membershipTransactionManager")
+    private PlatformTransactionManager transactionManager;
+
+    private BulkTestDataGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        TestDataProperties properties = new TestDataProperties();
+        properties.setChunkSize(2); // chunk 경계를 여러 번 지나도록
+        generator = new BulkTestDataGenerator(jdbcTemplate, transactionManager, properties);
+        cleanupTestData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupTestData();
+    }
+
+    private void cleanupTestData() {
+        long lastUserId = lastUserId();
+        jdbcTemplate.update("DELETE n FROM order_numbers n JOIN orders o ON o.id = n.order_id "
+            + "WHERE o.user_id BETWEEN ? AND ?", FIRST_USER_ID, lastUserId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, lastUserId);
+        jdbcTemplate.update("DELETE FROM monthly_order_sums WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, lastUserId);
+        jdbcTemplate.update("DELETE FROM sum_orders WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, lastUserId);
+        jdbcTemplate.update("DELETE FROM members WHERE user_id BETWEEN ? AND ?", FIRST_USER_ID, lastUserId);
+    }
+
+    @Test
+    @DisplayName("생성한 주문과 누적/월간 집계, 주문 번호가 서로 일치한다")
+    void generatesConsistentOrdersAndAggregates() {
+        long orderCount = generate(42L, 2).orderCount();
+
+        assertEquals(NUMBER_OF_MEMBERS, count("SELECT COUNT(*) FROM members WHERE user_id BETWEEN ? AND ?"));
+        assertEquals(orderCount, count("SELECT COUNT(*) FROM orders WHERE user_id BETWEEN ? AND ?"));
+        assertEquals(orderCount, count("SELECT COUNT(*) FROM order_numbers n JOIN orders o ON o.id = n.order_id "
+            + "WHERE o.user_id BETWEEN ? AND ?"));
+        assertTrue(orderCount >= NUMBER_OF_MEMBERS && orderCount <= NUMBER_OF_MEMBERS * 3L);
+
+        // 집계가 주문과 다른 사용자 수
+        assertEquals(0, count("SELECT COUNT(*) FROM sum_orders s "
+            + "LEFT JOIN (SELECT user_id, SUM(order_amount) amount, COUNT(*) cnt FROM orders GROUP BY user_id) o "
+            + "ON o.user_id = s.user_id "
+            + "WHERE s.user_id BETWEEN ? AND ? AND (o.amount IS NULL OR s.total_amount <> o.amount OR s.order_count <> o.cnt)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM monthly_order_sums m "
+            + "LEFT JOIN (SELECT user_id, DATE_FORMAT(order_date, '%Y-%m') order_month, SUM(order_amount) amount, "
+            + "COUNT(*) cnt FROM orders GROUP BY user_id, DATE_FORMAT(order_date, '%Y-%m')) o "
+            + "ON o.user_id = m.user_id AND o.order_month = m.order_month "
+            + "WHERE m.user_id BETWEEN ? AND ? AND (o.amount IS NULL OR m.total_amount <> o.amount OR m.order_count <> o.cnt)"));
+    }
+
+    @Test
+    @DisplayName("같은 시드는 스레드 수와 관계없이 같은 데이터를 만든다")
+    void sameSeedGeneratesSameData() {
+        BulkTestDataGenerator.GenerationResult first = generate(42L, 1);
+        List<Map<String, Object>> firstOrders = findOrders();
+        cleanupTestData();
+
+        BulkTestDataGenerator.GenerationResult second = generate(42L, 3);
+        List<Map<String, Object>> secondOrders = findOrders();
+
+        assertEquals(42L, first.seed());
+        assertEquals(first.orderCount(), second.orderCount());
+        assertEquals(firstOrders, secondOrders);
+    }
+
+    @Test
+    @DisplayName("다른 시드는 다른 데이터를 만든다")
+    void differentSeedGeneratesDifferentData() {
+        generate(42L, 1);
+        List<Map<String, Object>> firstOrders = findOrders();
+        cleanupTestData();
+
+        generate(43L, 1);
+
+        assertNotEquals(firstOrders, findOrders());
+    }
+
+    @Test
+    @DisplayName("주문 일시는 기준일의 평가 기간에, 회원 생성 일시는 기준일 0시에 생성된다")
+    void generatesDatesFromReferenceDate() {
+        generate(42L, 2);
+
+        // 기준월 2026-05 의 평가 기간은 2026-02 ~ 2026-04
+        assertEquals(0, count("SELECT COUNT(*) FROM orders WHERE user_id BETWEEN ? AND ? "
+            + "AND (order_date < '2026-02-01 00:00:00' OR order_date >= '2026-05-01 00:00:00')"));
+        assertEquals(List.of(Timestamp.valueOf(REFERENCE_DATE.atStartOfDay())), jdbcTemplate.queryForList(
+            "SELECT DISTINCT created_at FROM members WHERE user_id BETWEEN ? AND ?", Timestamp.class,
+            FIRST_USER_ID, lastUserId()));
+    }
+
+    private BulkTestDataGenerator.GenerationResult generate(Long seed, int threads) {
+        return generator.generateMembersAndOrders(NUMBER_OF_MEMBERS, 3, seed, FIRST_USER_ID, null, threads,
+            REFERENCE_DATE);
+    }
+
+    /**
+     * 생성된 주문 (주문 ID는 생성 시각에 따라 달라지므로 제외)
+     */
+    private List<Map<String, Object>> findOrders() {
+        return jdbcTemplate.queryForList("SELECT user_id, order_number, order_amount, order_date FROM orders "
+            + "WHERE user_id BETWEEN ? AND ? ORDER BY order_number", FIRST_USER_ID, lastUserId());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, FIRST_USER_ID, lastUserId());
+    }
+
+    private long lastUserId() {
+        return FIRST_USER_ID + NUMBER_OF_MEMBERS - 1;
+    }
+}
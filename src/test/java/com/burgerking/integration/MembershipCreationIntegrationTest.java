@@ -0,0 +1,112 @@
+package com.burgerking.integration;
+
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.repository.MembershipJdbcRepository;
+import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.web.dto.MembershipResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 멤버십 생성(createOrGetMembership) 동시성 통합 테스트 클래스입니다.
+ * 동시 요청이 각자 커밋되어야 하므로 테스트 트랜잭션을 사용하지 않고, 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class MembershipCreationIntegrationTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    private MembershipJdbcRepository membershipJdbcRepository;
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
+    private Long testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = 900001L;
+        cleanupTestData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanupTestData();
+    }
+
+    private void cleanupTestData() {
+        jdbcTemplate.update("DELETE FROM members WHERE user_id = ?", testUserId);
+    }
+
+    @Test
+    @DisplayName("insertOrGetId 는 없을 때만 생성하고 이미 있으면 기존 row를 바꾸지 않고 기존 ID를 반환한다")
+    void insertOrGetIdReturnsExistingIdWithoutUpdating() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        long first = membershipJdbcRepository.insertOrGetId(testUserId, MembershipGrade.BRONZE, now);
+        long second = membershipJdbcRepository.insertOrGetId(testUserId, MembershipGrade.SILVER, now.plusDays(1));
+
+        assertEquals(first, second);
+        assertEquals(1, countMembers());
+        assertEquals(MembershipGrade.BRONZE.name(), jdbcTemplate.queryForObject(
+            "SELECT grade FROM members WHERE id = ?", String.class, first));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 첫 요청은 모두 성공하고 멤버십은 하나만 생성된다")
+    void concurrentFirstRequestsCreateOneMembership() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MembershipResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return membershipService.createOrGetMembership(testUserId);
+                }));
+            }
+            start.countDown();
+
+            Long membershipId = null;
+            for (Future<MembershipResponse> future : futures) {
+                MembershipResponse response = future.get(); // 유니크 키 충돌로 실패하면 예외
+                assertEquals(MembershipGrade.BRONZE, response.getGrade());
+                if (membershipId == null) {
+                    membershipId = response.getId();
+                }
+                assertEquals(membershipId, response.getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, countMembers());
+    }
+
+    private int countMembers() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM members WHERE user_id = ?", Integer.class, testUserId);
+    }
+}
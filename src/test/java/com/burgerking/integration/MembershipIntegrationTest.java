@@ -1,11 +1,15 @@
 package com.burgerking.integration;
 
 import com.burgerking.membership.domain.Membership;
+import com.burgerking.membership.domain.MonthlyOrderSum;
+import com.burgerking.membership.domain.Order;
 import com.burgerking.membership.domain.SumOrder;
 import com.burgerking.membership.domain.enums.MembershipGrade;
 import com.burgerking.membership.repository.MembershipRepository;
+import com.burgerking.membership.repository.MonthlyOrderSumRepository;
 import com.burgerking.membership.repository.SumOrderRepository;
 import com.burgerking.membership.repository.OrderRepository; // Changed from MembershipOrderRepository
+import com.burgerking.membership.util.MembershipDateUtils;
 import com.burgerking.membership.web.dto.OrderProcessRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -13,15 +17,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -54,6 +63,13 @@ public class MembershipIntegrationTest {
     @Autowired
     private OrderRepository orderRepository; // Changed from MembershipOrderRepository
 
+    @Autowired
+    private MonthlyOrderSumRepository monthlyOrderSumRepository;
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
     private Long testUserId;
 
     @BeforeEach
@@ -72,10 +88,26 @@ public class MembershipIntegrationTest {
      */
     private void cleanupTestData() {
         orderRepository.deleteAllInBatch(); // Changed from membershipOrderRepository
+        jdbcTemplate.update("DELETE FROM order_numbers"); // 주문 번호 중복 방지 테이블 (엔티티 없음)
         sumOrderRepository.deleteAllInBatch(); // Changed from monthlyOrderRepository
+        monthlyOrderSumRepository.deleteAllInBatch();
         membershipRepository.deleteAllInBatch();
     }
 
+    /**
+     * 테스트마다 새 주문 번호를 만듭니다.
+     * 처리한 주문 번호는 애플리케이션 메모리(RecentOrderNumberCache)에도 남으므로 테스트 간에 재사용하지 않습니다.
+     */
+    private String newOrderNumber() {
+        return "ORDER-" + UUID.randomUUID();
+    }
+
+    private List<MonthlyOrderSum> findMonthlyOrderSums(Long userId) {
+        return monthlyOrderSumRepository.findAll().stream()
+            .filter(monthlyOrderSum -> monthlyOrderSum.getUserId().equals(userId))
+            .toList();
+    }
+
     /**
      * 신규 사용자에 대한 멤버십이 정상적으로 생성되는지 테스트합니다.
      */
@@ -108,9 +140,10 @@ public class MembershipIntegrationTest {
             .andExpect(status().isOk());
         
         // 주문 요청 객체 생성
+        String orderNumber = newOrderNumber();
         OrderProcessRequest orderRequest = new OrderProcessRequest(
                 testUserId, 
-                "ORDER123456", 
+                orderNumber, 
                 Integer.valueOf(150000) // 15만원 주문
         );
 
@@ -128,6 +161,74 @@ public class MembershipIntegrationTest {
         assertNotNull(sumOrder); // Changed from assertTrue(monthlyOrder.isPresent());
         assertEquals(150000, sumOrder.getTotalAmount());
         assertEquals(1, sumOrder.getOrderCount());
+
+        // 주문 월 버킷(monthly_order_sums)에도 반영
+        List<MonthlyOrderSum> monthlyOrderSums = findMonthlyOrderSums(testUserId);
+        assertEquals(1, monthlyOrderSums.size());
+        assertEquals(MembershipDateUtils.formatYearMonth(YearMonth.now()), monthlyOrderSums.get(0).getOrderMonth());
+        assertEquals(150000, monthlyOrderSums.get(0).getTotalAmount());
+        assertEquals(1, monthlyOrderSums.get(0).getOrderCount());
+
+        // 주문 내역(애플리케이션 발급 ID)과 주문 번호 등록
+        List<Order> orders = orderRepository.findByUserIdAndOrderDateBetween(
+            testUserId, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        assertEquals(1, orders.size());
+        assertNotNull(orders.get(0).getId());
+        assertEquals(orderNumber, orders.get(0).getOrderNumber());
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM order_numbers WHERE order_number = ?", Integer.class, orderNumber));
+    }
+
+    /**
+     * 같은 주문 번호로 다시 요청하면 한 번만 집계되는지 테스트합니다.
+     */
+    @Test
+    @DisplayName("중복 주문 번호 무시 통합 테스트")
+    void duplicateOrderIsProcessedOnce() throws Exception {
+        // given
+        mockMvc.perform(get("/api/membership/{userId}", testUserId))
+            .andExpect(status().isOk());
+        OrderProcessRequest orderRequest = new OrderProcessRequest(testUserId, newOrderNumber(), 150000);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/membership/orders")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(orderRequest)))
+                    .andExpect(status().isOk());
+        }
+
+        // then
+        SumOrder sumOrder = sumOrderRepository.findByUserId(testUserId);
+        assertEquals(150000, sumOrder.getTotalAmount());
+        assertEquals(1, sumOrder.getOrderCount());
+    }
+
+    /**
+     * 일괄 주문 처리 시 유효하지 않은 주문만 제외하고 400으로 알리는지 테스트합니다.
+     */
+    @Test
+    @DisplayName("일괄 주문 처리 검증 통합 테스트")
+    void processOrdersSkipsInvalidOrders() throws Exception {
+        // given
+        List<OrderProcessRequest> orderRequests = List.of(
+            new OrderProcessRequest(testUserId, newOrderNumber(), 100000),
+            new OrderProcessRequest(testUserId, newOrderNumber(), -1000), // 음수 금액
+            new OrderProcessRequest(testUserId, null, 10000),             // 주문 번호 누락
+            new OrderProcessRequest(testUserId, newOrderNumber(), 50000)
+        );
+
+        // when
+        mockMvc.perform(post("/api/membership/orders/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(orderRequests)))
+                .andExpect(status().isBadRequest());
+
+        // then
+        SumOrder sumOrder = sumOrderRepository.findByUserId(testUserId);
+        assertNotNull(sumOrder);
+        assertEquals(150000, sumOrder.getTotalAmount());
+        assertEquals(2, sumOrder.getOrderCount());
     }
 
     /**
@@ -173,4 +274,38 @@ public class MembershipIntegrationTest {
         assertTrue(updateMembership.isPresent());
         assertEquals(MembershipGrade.GOLD, updateMembership.get().getGrade());        
     }
+
+    /**
+     * 누적 금액이 PLATINUM 기준 구간이면 PLATINUM 으로 평가되는지 테스트합니다.
+     * (예전에는 VIP 분기에서 PLATINUM 기준 금액과 비교하여 PLATINUM 이 될 수 없었습니다.)
+     */
+    @Test
+    @DisplayName("멤버십 PLATINUM 등급 평가 통합 테스트")
+    void evaluatesPlatinumGrade() throws Exception {
+        // given
+        mockMvc.perform(get("/api/membership/{userId}", testUserId))
+                .andExpect(status().isOk());
+
+        SumOrder sumOrder = SumOrder.builder()
+                .userId(testUserId)
+                .totalAmount(0)
+                .orderCount(0)
+                .createdAt(LocalDateTime.now().minusDays(3))
+                .updatedAt(LocalDateTime.now().minusDays(3))
+                .build();
+        sumOrder.addOrder(400000);
+        sumOrder.addOrder(300000);
+        sumOrderRepository.save(sumOrder);
+
+        // when
+        mockMvc.perform(post("/api/membership/adjust-batch-non-optimized")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        // then
+        Optional<Membership> updateMembership = membershipRepository.findByUserId(testUserId);
+
+        assertTrue(updateMembership.isPresent());
+        assertEquals(MembershipGrade.PLATINUM, updateMembership.get().getGrade());
+    }
 }
@@ -0,0 +1,93 @@
+package com.burgerking.integration;
+
+import com.burgerking.membership.repository.MonthlyOrderSumRepository;
+import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.util.MembershipDateUtils;
+import com.burgerking.membership.web.dto.OrderProcessRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 월간 주문 집계(monthly_order_sums)와 평가 기간 합산의 통합 테스트 클래스입니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MonthlyOrderSumIntegrationTest {
+
+    @Autowired
+    private MonthlyOrderSumRepository monthlyOrderSumRepository;
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 월의 주문은 한 버킷에 누적된다")
+    void upsertAccumulatesIntoMonthBucket() {
+        String orderMonth = MembershipDateUtils.formatYearMonth(YearMonth.now());
+
+        monthlyOrderSumRepository.upsertOrder(1L, orderMonth, 10000, LocalDateTime.now());
+        monthlyOrderSumRepository.upsertOrder(1L, orderMonth, 20000, LocalDateTime.now());
+
+        Map<String, Object> bucket = jdbcTemplate.queryForMap(
+            "SELECT total_amount, order_count FROM monthly_order_sums WHERE user_id = ? AND order_month = ?", 1L, orderMonth);
+        assertEquals(30000, ((Number) bucket.get("total_amount")).intValue());
+        assertEquals(2, ((Number) bucket.get("order_count")).intValue());
+    }
+
+    @Test
+    @DisplayName("평가 기간 합산은 기간 안의 월 버킷만 더한다")
+    void sumsOnlyBucketsInsideWindow() {
+        YearMonth startMonth = MembershipDateUtils.getEvaluationStartMonth();
+        YearMonth endMonth = MembershipDateUtils.getEvaluationEndMonth();
+        upsert(1L, startMonth.minusMonths(1), 1000);  // 기간 이전
+        upsert(1L, startMonth, 10000);
+        upsert(1L, endMonth, 20000);
+        upsert(1L, endMonth.plusMonths(1), 4000);     // 이번 달 (기간 이후)
+        upsert(2L, endMonth.plusMonths(1), 5000);     // 기간 안 주문 없음
+
+        List<MonthlyOrderSumRepository.UserTotalAmount> result = monthlyOrderSumRepository.sumTotalAmountByUserIdIn(
+            List.of(1L, 2L),
+            MembershipDateUtils.formatYearMonth(startMonth),
+            MembershipDateUtils.formatYearMonth(endMonth));
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getUserId().longValue());
+        assertEquals(30000L, result.get(0).getTotalAmount().longValue());
+    }
+
+    @Test
+    @DisplayName("주문 처리는 주문 월 버킷을 함께 갱신한다")
+    void processOrderUpdatesCurrentMonthBucket() {
+        membershipService.createOrGetMembership(1L);
+
+        membershipService.processOrder(new OrderProcessRequest(1L, "ORD-" + UUID.randomUUID(), 15000));
+
+        Integer totalAmount = jdbcTemplate.queryForObject(
+            "SELECT total_amount FROM monthly_order_sums WHERE user_id = ? AND order_month = ?", Integer.class,
+            1L, MembershipDateUtils.formatYearMonth(YearMonth.now()));
+        assertEquals(15000, totalAmount.intValue());
+    }
+
+    private void upsert(Long userId, YearMonth orderMonth, int amount) {
+        monthlyOrderSumRepository.upsertOrder(userId, MembershipDateUtils.formatYearMonth(orderMonth), amount, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,134 @@
+package com.burgerking.integration;
+
+import com.burgerking.common.id.TimeOrderedIdGenerator;
+import com.burgerking.membership.domain.Order;
+import com.burgerking.membership.domain.SumOrder;
+import com.burgerking.membership.repository.OrderNumberJdbcRepository;
+import com.burgerking.membership.repository.SumOrderRepository;
+import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.web.dto.OrderProcessRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 번호 기준 멱등 처리(order_numbers 등록 후 집계)의 통합 테스트 클래스입니다.
+ * 처리된 주문 번호는 RecentOrderNumberCache 에 남으므로 테스트마다 새 주문 번호를 사용합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class OrderIdempotencyIntegrationTest {
+
+    @Autowired
+    private MembershipService membershipService;
+
+    @Autowired
+    private OrderNumberJdbcRepository orderNumberJdbcRepository;
+
+    @Autowired
+    private SumOrderRepository sumOrderRepository;
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
+    private Long testUserId;
+
+    @BeforeEach
+    void setUp() {
+        testUserId = 1L;
+        membershipService.createOrGetMembership(testUserId);
+    }
+
+    @Test
+    @DisplayName("같은 주문 번호로 재시도한 주문은 한 번만 집계된다")
+    void retriedOrderIsCountedOnce() {
+        // given
+        OrderProcessRequest request = new OrderProcessRequest(testUserId, newOrderNumber(), 10000);
+
+        // when
+        membershipService.processOrder(request);
+        membershipService.processOrder(request);
+
+        // then
+        SumOrder sumOrder = sumOrderRepository.findByUserId(testUserId);
+        assertEquals(10000, sumOrder.getTotalAmount().intValue());
+        assertEquals(1, sumOrder.getOrderCount().intValue());
+        assertEquals(1, countOrders(request.getOrderNumber()));
+    }
+
+    @Test
+    @DisplayName("일괄 처리는 요청 내 중복과 이미 처리된 주문 번호를 제외하고 집계한다")
+    void bulkSkipsDuplicatesInRequestAndAlreadyProcessed() {
+        // given
+        String processedOrderNumber = newOrderNumber();
+        membershipService.processOrder(new OrderProcessRequest(testUserId, processedOrderNumber, 10000));
+        String newOrderNumber = newOrderNumber();
+
+        // when
+        membershipService.processOrders(List.of(
+            new OrderProcessRequest(testUserId, processedOrderNumber, 10000),
+            new OrderProcessRequest(testUserId, newOrderNumber, 20000),
+            new OrderProcessRequest(testUserId, newOrderNumber, 20000)));
+
+        // then
+        SumOrder sumOrder = sumOrderRepository.findByUserId(testUserId);
+        assertEquals(30000, sumOrder.getTotalAmount().intValue());
+        assertEquals(2, sumOrder.getOrderCount().intValue());
+        assertEquals(1, countOrders(processedOrderNumber));
+        assertEquals(1, countOrders(newOrderNumber));
+    }
+
+    @Test
+    @DisplayName("reserveAll 은 다른 호출이 먼저 등록한 주문 번호를 반환하지 않는다")
+    void reserveAllExcludesOrderNumbersReservedByAnotherCall() {
+        // given: 사전 IN 조회 이후 다른 요청이 먼저 등록한 경우
+        String racedOrderNumber = newOrderNumber();
+        String freeOrderNumber = newOrderNumber();
+        assertTrue(orderNumberJdbcRepository.reserve(racedOrderNumber, nextOrderId(), LocalDateTime.now()));
+
+        // when
+        Set<String> reserved = orderNumberJdbcRepository.reserveAll(List.of(
+            order(racedOrderNumber), order(freeOrderNumber)), LocalDateTime.now());
+
+        // then
+        assertEquals(Set.of(freeOrderNumber), reserved);
+        assertFalse(orderNumberJdbcRepository.reserve(freeOrderNumber, nextOrderId(), LocalDateTime.now()));
+    }
+
+    private Order order(String orderNumber) {
+        return Order.builder()
+            .id(nextOrderId())
+            .userId(testUserId)
+            .orderNumber(orderNumber)
+            .orderAmount(10000)
+            .build();
+    }
+
+    private long nextOrderId() {
+        return TimeOrderedIdGenerator.getInstance().nextId();
+    }
+
+    private int countOrders(String orderNumber) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM orders WHERE order_number = ?", Integer.class, orderNumber);
+    }
+
+    private String newOrderNumber() {
+        return "ORD-" + UUID.randomUUID();
+    }
+}
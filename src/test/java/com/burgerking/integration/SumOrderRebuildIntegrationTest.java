@@ -0,0 +1,124 @@
+package com.burgerking.integration;
+
+import com.burgerking.common.id.TimeOrderedIdGenerator;
+import com.burgerking.membership.batch.tasklet.SumOrderRebuildTasklet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * orders 로부터 누적 주문 집계를 다시 만드는 SumOrderRebuildTasklet 의 통합 테스트 클래스입니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SumOrderRebuildIntegrationTest {
+
+    private static final long USER_ID = 910001L;
+    private static final long USER_ID_WITHOUT_ORDERS = 910002L;
+
+    @Autowired
+    @Qualifier("membershipJdbcTemplate")
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("재집계는 orders 기준으로 누적/월간 집계를 덮어쓰고, 주문이 없는 집계는 0으로 맞춘다")
+    void rebuildsAggregatesFromOrders() {
+        // given: 주문과 어긋난 집계
+        insertOrder(USER_ID, 10000, LocalDateTime.of(2026, 1, 10, 12, 0));
+        insertOrder(USER_ID, 20000, LocalDateTime.of(2026, 1, 20, 12, 0));
+        insertOrder(USER_ID, 5000, LocalDateTime.of(2026, 2, 5, 12, 0));
+        insertSumOrder(USER_ID, 999, 9);
+        insertSumOrder(USER_ID_WITHOUT_ORDERS, 30000, 3);
+        insertMonthlyOrderSum(USER_ID, "2026-01", 1, 1);
+        insertMonthlyOrderSum(USER_ID, "2025-12", 7000, 1); // 주문이 없는 월
+        insertMonthlyOrderSum(USER_ID_WITHOUT_ORDERS, "2026-01", 30000, 3);
+
+        // when: 사용자 1명씩 구간을 나누어 끝까지 실행
+        runToCompletion(new SumOrderRebuildTasklet(jdbcTemplate, USER_ID, USER_ID_WITHOUT_ORDERS, 1));
+
+        // then
+        assertAggregate(findSumOrder(USER_ID), 35000, 3);
+        assertAggregate(findSumOrder(USER_ID_WITHOUT_ORDERS), 0, 0);
+        assertAggregate(findMonthlyOrderSum(USER_ID, "2026-01"), 30000, 2);
+        assertAggregate(findMonthlyOrderSum(USER_ID, "2026-02"), 5000, 1);
+        assertAggregate(findMonthlyOrderSum(USER_ID, "2025-12"), 0, 0);
+        assertAggregate(findMonthlyOrderSum(USER_ID_WITHOUT_ORDERS, "2026-01"), 0, 0);
+    }
+
+    @Test
+    @DisplayName("재시작하면 ExecutionContext 에 저장된 다음 구간부터 이어서 처리한다")
+    void resumesFromNextSliceOnRestart() {
+        insertOrder(USER_ID, 10000, LocalDateTime.of(2026, 1, 10, 12, 0));
+        insertOrder(USER_ID_WITHOUT_ORDERS, 20000, LocalDateTime.of(2026, 1, 10, 12, 0));
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        stepExecution.getExecutionContext().putLong("sumOrderRebuildTasklet.nextUserId", USER_ID_WITHOUT_ORDERS);
+
+        RepeatStatus status = new SumOrderRebuildTasklet(jdbcTemplate, USER_ID, USER_ID_WITHOUT_ORDERS, 1)
+            .execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+
+        assertEquals(RepeatStatus.FINISHED, status);
+        assertTrue(jdbcTemplate.queryForList("SELECT 1 FROM sum_orders WHERE user_id = ?", USER_ID).isEmpty());
+        assertAggregate(findSumOrder(USER_ID_WITHOUT_ORDERS), 20000, 1);
+    }
+
+    private void runToCompletion(SumOrderRebuildTasklet tasklet) {
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        RepeatStatus status;
+        do {
+            status = tasklet.execute(new StepContribution(stepExecution), chunkContext);
+        } while (status.isContinuable());
+    }
+
+    private void insertOrder(long userId, int amount, LocalDateTime orderDate) {
+        jdbcTemplate.update("INSERT INTO orders (id, user_id, order_number, order_amount, order_date, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)",
+            TimeOrderedIdGenerator.getInstance().nextId(), userId, "ORD-" + UUID.randomUUID(), amount,
+            Timestamp.valueOf(orderDate), Timestamp.valueOf(orderDate));
+    }
+
+    private void insertSumOrder(long userId, int totalAmount, int orderCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO sum_orders (user_id, total_amount, order_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?)", userId, totalAmount, orderCount, now, now);
+    }
+
+    private void insertMonthlyOrderSum(long userId, String orderMonth, int totalAmount, int orderCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO monthly_order_sums (user_id, order_month, total_amount, order_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)", userId, orderMonth, totalAmount, orderCount, now, now);
+    }
+
+    private Map<String, Object> findSumOrder(long userId) {
+        return jdbcTemplate.queryForMap("SELECT total_amount, order_count FROM sum_orders WHERE user_id = ?", userId);
+    }
+
+    private Map<String, Object> findMonthlyOrderSum(long userId, String orderMonth) {
+        return jdbcTemplate.queryForMap("SELECT total_amount, order_count FROM monthly_order_sums "
+            + "WHERE user_id = ? AND order_month = ?", userId, orderMonth);
+    }
+
+    private void assertAggregate(Map<String, Object> aggregate, int totalAmount, int orderCount) {
+        assertEquals(totalAmount, ((Number) aggregate.get("total_amount")).intValue());
+        assertEquals(orderCount, ((Number) aggregate.get("order_count")).intValue());
+    }
+}
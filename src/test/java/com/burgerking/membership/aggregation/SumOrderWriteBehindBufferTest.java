@@ -0,0 +1,141 @@
+package com.burgerking.membership.aggregation;
+
+import com.burgerking.membership.domain.SumOrderDelta;
+import com.burgerking.membership.repository.MonthlyOrderSumBulkRepository;
+import com.burgerking.membership.repository.SumOrderBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * SumOrderWriteBehindBuffer 단위 테스트입니다.
+ * 저장소는 mock 으로 대신하고, 트랜잭션은 ResourcelessTransactionManager 로 실행합니다.
+ */
+class SumOrderWriteBehindBufferTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+
+    private SumOrderBulkRepository sumOrderBulkRepository;
+    private MonthlyOrderSumBulkRepository monthlyOrderSumBulkRepository;
+    private TaskScheduler taskScheduler;
+    private SumOrderWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        sumOrderBulkRepository = mock(SumOrderBulkRepository.class);
+        monthlyOrderSumBulkRepository = mock(MonthlyOrderSumBulkRepository.class);
+        taskScheduler = mock(TaskScheduler.class);
+        buffer = newBuffer(1000);
+    }
+
+    @Test
+    @DisplayName("같은 사용자/주문 월의 증분은 하나로 합쳐서 flush 한다")
+    void flushMergesDeltasPerUserAndMonth() {
+        buffer.add(1L, JANUARY, 1000);
+        buffer.add(1L, JANUARY, 2000);
+        buffer.add(1L, FEBRUARY, 500);
+        buffer.add(2L, JANUARY, 300);
+
+        buffer.flush();
+
+        Map<String, SumOrderDelta> deltas = captureSumOrderDeltas(1).get(0);
+        assertEquals(3, deltas.size());
+        assertDelta(deltas.get("1:2025-01"), 3000, 2);
+        assertDelta(deltas.get("1:2025-02"), 500, 1);
+        assertDelta(deltas.get("2:2025-01"), 300, 1);
+        verify(monthlyOrderSumBulkRepository).upsertAll(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("flush 한 증분은 버퍼에서 빠지고, 비어 있으면 저장소를 호출하지 않는다")
+    void flushDrainsBuffer() {
+        buffer.add(1L, JANUARY, 1000);
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(sumOrderBulkRepository, times(1)).upsertAll(anyCollection(), any(LocalDateTime.class));
+        verify(monthlyOrderSumBulkRepository, times(1)).upsertAll(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증분을 되돌려 다음 flush 에서 이후 증분과 합쳐 재시도한다")
+    void failedFlushIsRetriedWithLaterDeltas() {
+        doThrow(new IllegalStateException("db down"))
+                .doNothing()
+                .when(sumOrderBulkRepository).upsertAll(anyCollection(), any(LocalDateTime.class));
+
+        buffer.add(1L, JANUARY, 1000);
+        buffer.flush();
+        buffer.add(1L, JANUARY, 500);
+        buffer.flush();
+        buffer.flush();
+
+        List<Map<String, SumOrderDelta>> calls = captureSumOrderDeltas(2);
+        assertDelta(calls.get(0).get("1:2025-01"), 1000, 1);
+        assertEquals(1, calls.get(1).size());
+        assertDelta(calls.get(1).get("1:2025-01"), 1500, 2);
+        // 실패한 트랜잭션에서는 월간 집계도 반영하지 않으므로 성공한 1번만 호출됩니다.
+        verify(monthlyOrderSumBulkRepository, times(1)).upsertAll(anyCollection(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("대기 사용자 수가 max-pending-users 에 도달하면 flush 를 한 번만 예약한다")
+    void schedulesFlushWhenPendingUsersReachLimit() {
+        buffer = newBuffer(2);
+
+        buffer.add(1L, JANUARY, 1000);
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.add(2L, JANUARY, 1000);
+        buffer.add(3L, JANUARY, 1000);
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+
+        buffer.flush();
+        buffer.add(4L, JANUARY, 1000);
+        buffer.add(5L, JANUARY, 1000);
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private SumOrderWriteBehindBuffer newBuffer(int maxPendingUsers) {
+        return new SumOrderWriteBehindBuffer(sumOrderBulkRepository, monthlyOrderSumBulkRepository,
+                new ResourcelessTransactionManager(), taskScheduler, true, maxPendingUsers);
+    }
+
+    /**
+     * sum_orders upsert 호출마다 전달된 증분을 "userId:yyyy-MM" 키로 모아 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, SumOrderDelta>> captureSumOrderDeltas(int expectedCalls) {
+        ArgumentCaptor<Collection<SumOrderDelta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sumOrderBulkRepository, times(expectedCalls)).upsertAll(captor.capture(), any(LocalDateTime.class));
+        return captor.getAllValues().stream()
+                .map(deltas -> deltas.stream().collect(Collectors.toMap(
+                        delta -> delta.getUserId() + ":" + delta.getOrderMonth(), Function.identity())))
+                .toList();
+    }
+
+    private static void assertDelta(SumOrderDelta delta, long amount, int orderCount) {
+        assertNotNull(delta);
+        assertEquals(amount, delta.getAmount());
+        assertEquals(orderCount, delta.getOrderCount());
+    }
+}
@@ -0,0 +1,42 @@
+package com.burgerking.membership.batch.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 누적 주문 재집계 Job 실행 조건 단위 테스트
+ */
+class SumOrderRebuildBatchConfigTest {
+
+    @Test
+    @DisplayName("write-behind 버퍼와 주문 보관 기간을 쓰지 않으면 재집계를 허용한다")
+    void allowsRebuildWithoutWriteBehindOrRetention() {
+        assertDoesNotThrow(() -> validator(false, 0).validate(new JobParameters()));
+    }
+
+    @Test
+    @DisplayName("write-behind 버퍼 사용 중에는 재집계를 거절한다")
+    void rejectsRebuildWhileWriteBehindEnabled() {
+        JobParametersInvalidException e = assertThrows(JobParametersInvalidException.class,
+            () -> validator(true, 0).validate(new JobParameters()));
+        assertTrue(e.getMessage().contains("write-behind"));
+    }
+
+    @Test
+    @DisplayName("주문 보관 기간을 쓰면 삭제된 주문이 빠지므로 재집계를 거절한다")
+    void rejectsRebuildWhenRetentionMonthsSet() {
+        JobParametersInvalidException e = assertThrows(JobParametersInvalidException.class,
+            () -> validator(false, 12).validate(new JobParameters()));
+        assertTrue(e.getMessage().contains("retention-months"));
+    }
+
+    private JobParametersValidator validator(boolean writeBehindEnabled, int orderRetentionMonths) {
+        return new SumOrderRebuildBatchConfig(null, null, null, writeBehindEnabled, orderRetentionMonths)
+            .sumOrderRebuildJobParametersValidator();
+    }
+}
@@ -0,0 +1,68 @@
+package com.burgerking.membership.batch.listener;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MembershipGradeChangeTracker 등급 변경 사용자 추적 단위 테스트
+ */
+class MembershipGradeChangeTrackerTest {
+
+    private static final Long JOB_EXECUTION_ID = 1L;
+
+    @Test
+    @DisplayName("같은 Job 실행의 파티션들은 기록을 공유한다")
+    void partitionsShareChangedUserIds() {
+        MembershipGradeChangeTracker tracker = new MembershipGradeChangeTracker(10);
+
+        tracker.track(JOB_EXECUTION_ID).accept(1L);
+        tracker.track(JOB_EXECUTION_ID).accept(2L);
+
+        assertEquals(Set.of(1L, 2L), tracker.getChangedUserIds(JOB_EXECUTION_ID).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("추적하지 않은 Job 실행은 empty 를 반환한다")
+    void returnsEmptyWhenNotTracked() {
+        MembershipGradeChangeTracker tracker = new MembershipGradeChangeTracker(10);
+
+        assertTrue(tracker.getChangedUserIds(JOB_EXECUTION_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 추적 불가로 표시한다")
+    void returnsEmptyWhenOverflowed() {
+        MembershipGradeChangeTracker tracker = new MembershipGradeChangeTracker(2);
+        Consumer<Long> recorder = tracker.track(JOB_EXECUTION_ID);
+
+        recorder.accept(1L);
+        recorder.accept(2L);
+        recorder.accept(3L);
+
+        assertTrue(tracker.getChangedUserIds(JOB_EXECUTION_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Job 종료 시 해당 실행의 기록을 버린다")
+    void clearsOnAfterJob() {
+        MembershipGradeChangeTracker tracker = new MembershipGradeChangeTracker(2);
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution(JOB_EXECUTION_ID);
+        Consumer<Long> recorder = tracker.track(jobExecution.getId());
+        recorder.accept(1L);
+        recorder.accept(2L);
+        recorder.accept(3L);
+
+        tracker.afterJob(jobExecution);
+
+        assertTrue(tracker.getChangedUserIds(jobExecution.getId()).isEmpty());
+        tracker.track(jobExecution.getId()).accept(4L);
+        assertEquals(Set.of(4L), tracker.getChangedUserIds(jobExecution.getId()).orElseThrow());
+    }
+}
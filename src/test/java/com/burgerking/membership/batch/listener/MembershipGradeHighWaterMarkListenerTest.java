@@ -0,0 +1,98 @@
+package com.burgerking.membership.batch.listener;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * MembershipGradeHighWaterMarkListener 기준 시각 기록 단위 테스트
+ */
+class MembershipGradeHighWaterMarkListenerTest {
+
+    private static final String JOB_NAME = "membershipGradeJob";
+    private static final Duration SAFETY_MARGIN = Duration.ofMinutes(1);
+
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final MembershipGradeHighWaterMarkListener listener =
+        new MembershipGradeHighWaterMarkListener(jobExplorer, SAFETY_MARGIN);
+
+    @Test
+    @DisplayName("high-water mark 는 Job 시작 시각에서 안전 여유를 뺀 시각이다")
+    void recordsHighWaterMarkMinusSafetyMargin() {
+        JobExecution jobExecution = jobExecution(2L, new JobParameters());
+
+        LocalDateTime before = LocalDateTime.now();
+        listener.beforeJob(jobExecution);
+        LocalDateTime after = LocalDateTime.now();
+
+        LocalDateTime highWaterMark = highWaterMark(jobExecution);
+        assertFalse(highWaterMark.isBefore(before.minus(SAFETY_MARGIN)));
+        assertFalse(highWaterMark.isAfter(after.minus(SAFETY_MARGIN)));
+        assertFalse(jobExecution.getExecutionContext().containsKey(MembershipGradeHighWaterMarkListener.SINCE_KEY));
+    }
+
+    @Test
+    @DisplayName("재시작 실행은 이전 실행의 high-water mark 와 기준 시각을 유지한다")
+    void keepsHighWaterMarkOnRestart() {
+        JobExecution restarted = jobExecution(3L, incremental());
+        restarted.getExecutionContext().putString(MembershipGradeHighWaterMarkListener.HIGH_WATER_MARK_KEY, "2026-10-01T09:00");
+        restarted.getExecutionContext().putString(MembershipGradeHighWaterMarkListener.SINCE_KEY, "2026-09-30T09:00");
+
+        listener.beforeJob(restarted);
+
+        assertEquals(LocalDateTime.of(2026, 10, 1, 9, 0), highWaterMark(restarted));
+        assertEquals("2026-09-30T09:00", restarted.getExecutionContext().getString(MembershipGradeHighWaterMarkListener.SINCE_KEY));
+        verifyNoInteractions(jobExplorer);
+    }
+
+    @Test
+    @DisplayName("증분 실행은 완료된 실행 중 가장 늦은 high-water mark 를 기준 시각으로 쓴다")
+    void usesLatestCompletedHighWaterMarkAsSince() {
+        JobExecution completed = completedExecution(1L, "2026-10-01T09:00");
+        JobExecution latestCompleted = completedExecution(2L, "2026-10-02T09:00");
+        JobExecution failed = jobExecution(3L, incremental());
+        failed.setStatus(BatchStatus.FAILED);
+        failed.getExecutionContext().putString(MembershipGradeHighWaterMarkListener.HIGH_WATER_MARK_KEY, "2026-10-03T09:00");
+        JobExecution current = jobExecution(4L, incremental());
+        when(jobExplorer.getJobInstances(JOB_NAME, 0, 20)).thenReturn(List.of(current.getJobInstance()));
+        when(jobExplorer.getJobExecutions(current.getJobInstance()))
+            .thenReturn(List.of(current, failed, latestCompleted, completed));
+
+        listener.beforeJob(current);
+
+        assertEquals("2026-10-02T09:00", current.getExecutionContext().getString(MembershipGradeHighWaterMarkListener.SINCE_KEY));
+    }
+
+    private JobExecution completedExecution(Long executionId, String highWaterMark) {
+        JobExecution jobExecution = jobExecution(executionId, incremental());
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        jobExecution.getExecutionContext().putString(MembershipGradeHighWaterMarkListener.HIGH_WATER_MARK_KEY, highWaterMark);
+        return jobExecution;
+    }
+
+    private JobExecution jobExecution(Long executionId, JobParameters jobParameters) {
+        return MetaDataInstanceFactory.createJobExecution(JOB_NAME, 1L, executionId, jobParameters);
+    }
+
+    private JobParameters incremental() {
+        return new JobParametersBuilder().addString("incremental", "true").toJobParameters();
+    }
+
+    private LocalDateTime highWaterMark(JobExecution jobExecution) {
+        return LocalDateTime.parse(jobExecution.getExecutionContext().getString(MembershipGradeHighWaterMarkListener.HIGH_WATER_MARK_KEY));
+    }
+}
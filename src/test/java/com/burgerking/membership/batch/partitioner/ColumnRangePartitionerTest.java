@@ -0,0 +1,123 @@
+package com.burgerking.membership.batch.partitioner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ColumnRangePartitioner 단위 테스트입니다.
+ * 컬럼 MIN/MAX 조회 결과만 mock 으로 대신합니다.
+ */
+class ColumnRangePartitionerTest {
+
+    private static final String MIN_KEY = "minId";
+    private static final String MAX_KEY = "maxId";
+
+    @Test
+    @DisplayName("파티션 구간은 MIN ~ MAX id 를 빈틈과 겹침 없이 덮는다")
+    void rangesCoverAllIdsWithoutGapsOrOverlaps() {
+        long[][] cases = {
+            // minId, maxId, gridSize
+            {1, 100, 4},
+            {1, 10, 3},
+            {1, 1_000_003, 7},
+            {500, 501, 4},
+            {42, 42, 4},
+            {1, 3, 10},
+        };
+        for (long[] c : cases) {
+            long minId = c[0];
+            long maxId = c[1];
+            int gridSize = (int) c[2];
+
+            Map<String, ExecutionContext> partitions = partitioner(minId, maxId).partition(gridSize);
+
+            String label = "min=" + minId + ", max=" + maxId + ", grid=" + gridSize;
+            assertTrue(partitions.size() <= gridSize, label + ": 파티션 수가 gridSize 를 넘음");
+            List<long[]> ranges = sortedRanges(partitions);
+            assertEquals(minId, ranges.get(0)[0], label + ": 시작 id");
+            assertEquals(maxId, ranges.get(ranges.size() - 1)[1], label + ": 마지막 id");
+            for (int i = 0; i < ranges.size(); i++) {
+                assertTrue(ranges.get(i)[0] <= ranges.get(i)[1], label + ": 빈 구간");
+                if (i > 0) {
+                    assertEquals(ranges.get(i - 1)[1] + 1, ranges.get(i)[0], label + ": 구간 사이 빈틈/겹침");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("id 범위가 나누어떨어지면 gridSize 개의 같은 크기 구간으로 나눈다")
+    void splitsEvenlyWhenDivisible() {
+        List<long[]> ranges = sortedRanges(partitioner(1, 100).partition(4));
+
+        assertEquals(4, ranges.size());
+        for (long[] range : ranges) {
+            assertEquals(25, range[1] - range[0] + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("멤버십이 없으면 아무 id 도 읽지 않는 빈 구간 하나를 만든다")
+    void emptyTableYieldsSingleEmptyRange() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        Map<String, Object> minMax = new HashMap<>();
+        minMax.put("min_value", null);
+        minMax.put("max_value", null);
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(minMax);
+
+        Map<String, ExecutionContext> partitions = membersIdPartitioner(jdbcTemplate).partition(4);
+
+        assertEquals(1, partitions.size());
+        ExecutionContext context = partitions.get("partition0");
+        assertTrue(context.getLong(MIN_KEY) > context.getLong(MAX_KEY));
+    }
+
+    @Test
+    @DisplayName("여러 테이블을 지정하면 테이블별 MIN/MAX 를 합친 범위를 조회한다")
+    void multipleTablesQueryCombinedRange() {
+        assertEquals("SELECT MIN(id) AS min_value, MAX(id) AS max_value FROM members",
+                ColumnRangePartitioner.buildMinMaxSql("id", List.of("members")));
+        assertEquals("SELECT MIN(min_value) AS min_value, MAX(max_value) AS max_value FROM ("
+                        + "SELECT MIN(user_id) AS min_value, MAX(user_id) AS max_value FROM orders UNION ALL "
+                        + "SELECT MIN(user_id) AS min_value, MAX(user_id) AS max_value FROM sum_orders) ranges",
+                ColumnRangePartitioner.buildMinMaxSql("user_id", List.of("orders", "sum_orders")));
+    }
+
+    private static ColumnRangePartitioner partitioner(long minId, long maxId) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        Map<String, Object> minMax = new HashMap<>();
+        minMax.put("min_value", minId);
+        minMax.put("max_value", maxId);
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(minMax);
+        return membersIdPartitioner(jdbcTemplate);
+    }
+
+    private static ColumnRangePartitioner membersIdPartitioner(JdbcTemplate jdbcTemplate) {
+        return new ColumnRangePartitioner(jdbcTemplate, "id", List.of("members"), MIN_KEY, MAX_KEY);
+    }
+
+    private static List<long[]> sortedRanges(Map<String, ExecutionContext> partitions) {
+        List<long[]> ranges = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            ranges.add(new long[] {
+                context.getLong(MIN_KEY),
+                context.getLong(MAX_KEY)
+            });
+        }
+        ranges.sort(Comparator.comparingLong(range -> range[0]));
+        return ranges;
+    }
+}
@@ -0,0 +1,98 @@
+package com.burgerking.membership.batch.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveChunkSizePolicy 단위 테스트입니다.
+ * 처리 시간은 adjust 에 직접 넣어 시계에 의존하지 않게 합니다.
+ */
+class AdaptiveChunkSizePolicyTest {
+
+    private static final long MILLIS = 1_000_000L;
+    private static final long TARGET_MILLIS = 1000L;
+
+    @Test
+    @DisplayName("시작 청크 크기는 [min, max] 범위로 제한한다")
+    void clampsInitialChunkSize() {
+        assertEquals(1000, new AdaptiveChunkSizePolicy(5000, 10, 1000, TARGET_MILLIS).getChunkSize());
+        assertEquals(10, new AdaptiveChunkSizePolicy(1, 10, 1000, TARGET_MILLIS).getChunkSize());
+    }
+
+    @Test
+    @DisplayName("처리 시간이 목표의 절반보다 짧으면 1.5배로 늘리고 max 를 넘지 않는다")
+    void growsFastChunksUpToMax() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(100, 10, 200, TARGET_MILLIS);
+
+        policy.adjust(100 * MILLIS);
+        assertEquals(150, policy.getChunkSize());
+
+        policy.adjust(100 * MILLIS);
+        assertEquals(200, policy.getChunkSize());
+    }
+
+    @Test
+    @DisplayName("처리 시간이 목표보다 길면 목표 대비 비율만큼 줄이고 min 아래로 내려가지 않는다")
+    void shrinksSlowChunksDownToMin() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(100, 10, 1000, TARGET_MILLIS);
+
+        policy.adjust(2000 * MILLIS);
+        assertEquals(50, policy.getChunkSize());
+
+        policy.adjust(100_000 * MILLIS);
+        assertEquals(10, policy.getChunkSize());
+    }
+
+    @Test
+    @DisplayName("처리 시간이 목표의 절반 ~ 목표 사이면 크기를 유지한다")
+    void keepsChunkSizeWithinTargetBand() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(100, 10, 1000, TARGET_MILLIS);
+
+        policy.adjust(TARGET_MILLIS / 2 * MILLIS);
+        policy.adjust(700 * MILLIS);
+        policy.adjust(TARGET_MILLIS * MILLIS);
+
+        assertEquals(100, policy.getChunkSize());
+    }
+
+    @Test
+    @DisplayName("청크가 끝나는 시점은 시작할 때의 크기로 고정된다")
+    void completionUsesChunkSizeAtStart() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(2, 1, 1000, TARGET_MILLIS);
+
+        RepeatContext context = policy.start(null);
+        policy.adjust(1 * MILLIS); // 진행 중인 청크에는 영향 없음
+
+        assertFalse(policy.isComplete(context));
+        ((RepeatContextSupport) context).increment();
+        assertFalse(policy.isComplete(context));
+        ((RepeatContextSupport) context).increment();
+        assertTrue(policy.isComplete(context));
+        assertEquals(3, policy.getChunkSize());
+    }
+
+    @Test
+    @DisplayName("ChunkListener 로 측정한 처리 시간으로 크기를 조정하고, 시작 시각이 없으면 그대로 둔다")
+    void adjustsFromChunkListenerCallbacks() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(100, 10, 1000, TARGET_MILLIS);
+
+        policy.afterChunk(newChunkContext());
+        assertEquals(100, policy.getChunkSize());
+
+        ChunkContext chunkContext = newChunkContext();
+        policy.beforeChunk(chunkContext);
+        policy.afterChunk(chunkContext);
+        assertEquals(150, policy.getChunkSize());
+    }
+
+    private static ChunkContext newChunkContext() {
+        return new ChunkContext(new StepContext(MetaDataInstanceFactory.createStepExecution()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.burgerking.membership.batch.tasklet;
+
+import com.burgerking.membership.cache.MembershipResponseCache;
+import com.burgerking.membership.domain.Membership;
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.repository.MembershipRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * MembershipGradeCacheRefreshTasklet 캐시 갱신 단위 테스트
+ */
+class MembershipGradeCacheRefreshTaskletTest {
+
+    private final MembershipRepository membershipRepository = mock(MembershipRepository.class);
+    private final MembershipResponseCache membershipResponseCache = mock(MembershipResponseCache.class);
+
+    @Test
+    @DisplayName("바뀐 사용자를 알 수 없으면 캐시를 전체 무효화한다")
+    void invalidatesAllWhenChangedUsersUnknown() {
+        MembershipGradeCacheRefreshTasklet tasklet =
+            new MembershipGradeCacheRefreshTasklet(membershipRepository, membershipResponseCache, null, false, 2);
+
+        tasklet.execute(newContribution(), null);
+
+        verify(membershipResponseCache).invalidateAll();
+        verifyNoInteractions(membershipRepository);
+    }
+
+    @Test
+    @DisplayName("WARM 은 batchSize 단위로 조회하여 캐시를 채우고 로컬 캐시 갱신을 알린다")
+    void warmsChangedUsersInBatches() {
+        // Tasklet 은 배치 목록을 재사용하므로 호출 시점에 복사해 둔다
+        List<List<Long>> requested = new ArrayList<>();
+        when(membershipRepository.findByUserIdIn(any())).thenAnswer(invocation -> {
+            requested.add(new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+            return List.of(membership(1L));
+        });
+        MembershipGradeCacheRefreshTasklet tasklet = new MembershipGradeCacheRefreshTasklet(
+            membershipRepository, membershipResponseCache, userIds(1L, 2L, 3L), false, 2);
+        StepContribution contribution = newContribution();
+
+        tasklet.execute(contribution, null);
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), requested);
+        verify(membershipResponseCache, times(2)).refreshAll(anyCollection());
+        verify(membershipResponseCache).broadcastLocalRefresh();
+        verify(membershipResponseCache, never()).invalidateAll();
+        assertEquals(3, contribution.getWriteCount());
+    }
+
+    @Test
+    @DisplayName("EVICT 는 조회 없이 batchSize 단위로 캐시를 삭제한다")
+    void evictsChangedUsersInBatches() {
+        List<List<Long>> evicted = new ArrayList<>();
+        doAnswer(invocation -> evicted.add(new ArrayList<>(invocation.<Collection<Long>>getArgument(0))))
+            .when(membershipResponseCache).evictAll(any());
+        MembershipGradeCacheRefreshTasklet tasklet = new MembershipGradeCacheRefreshTasklet(
+            membershipRepository, membershipResponseCache, userIds(1L, 2L, 3L), true, 2);
+
+        tasklet.execute(newContribution(), null);
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), evicted);
+        verify(membershipResponseCache).broadcastLocalRefresh();
+        verifyNoInteractions(membershipRepository);
+    }
+
+    @Test
+    @DisplayName("바뀐 사용자가 없으면 아무것도 갱신하지 않는다")
+    void doesNothingWhenNoUserChanged() {
+        MembershipGradeCacheRefreshTasklet tasklet = new MembershipGradeCacheRefreshTasklet(
+            membershipRepository, membershipResponseCache, Set.of(), false, 2);
+
+        tasklet.execute(newContribution(), null);
+
+        verifyNoInteractions(membershipRepository, membershipResponseCache);
+    }
+
+    private StepContribution newContribution() {
+        return new StepContribution(MetaDataInstanceFactory.createStepExecution());
+    }
+
+    private Set<Long> userIds(Long... userIds) {
+        return new LinkedHashSet<>(List.of(userIds));
+    }
+
+    private Membership membership(Long userId) {
+        return Membership.builder()
+            .userId(userId)
+            .grade(MembershipGrade.GOLD)
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.burgerking.membership.batch.tasklet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * OrderPartitionMaintenanceTasklet 파티션 추가/삭제 DDL 단위 테스트 (현재 월 2026-03 고정)
+ */
+class OrderPartitionMaintenanceTaskletTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final Clock CLOCK = Clock.fixed(LocalDateTime.of(2026, 3, 15, 10, 0).atZone(ZONE).toInstant(), ZONE);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 DDL을 실행하지 않는다")
+    void skipsWhenNotPartitioned() throws Exception {
+        givenPartitions();
+
+        newTasklet(3, 0).execute(null, null);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 현재 월 + monthsAhead 까지 pmax 를 나누어 추가한다")
+    void addsMonthlyPartitionsByReorganizingPmax() throws Exception {
+        givenPartitions(
+            new String[] {"p_archive", "'2026-01-01 00:00:00'"},
+            new String[] {"pmax", "MAXVALUE"});
+
+        newTasklet(2, 0).execute(null, null);
+
+        assertEquals(List.of("ALTER TABLE orders REORGANIZE PARTITION pmax INTO ("
+            + "PARTITION p202601 VALUES LESS THAN ('2026-02-01 00:00:00'), "
+            + "PARTITION p202602 VALUES LESS THAN ('2026-03-01 00:00:00'), "
+            + "PARTITION p202603 VALUES LESS THAN ('2026-04-01 00:00:00'), "
+            + "PARTITION p202604 VALUES LESS THAN ('2026-05-01 00:00:00'), "
+            + "PARTITION p202605 VALUES LESS THAN ('2026-06-01 00:00:00'), "
+            + "PARTITION pmax VALUES LESS THAN (MAXVALUE))"), executedDdl(1));
+    }
+
+    @Test
+    @DisplayName("이미 충분한 월 파티션이 있으면 추가하지 않는다")
+    void addsNothingWhenPartitionsAreAhead() throws Exception {
+        givenPartitions(
+            new String[] {"p202603", "'2026-04-01 00:00:00'"},
+            new String[] {"pmax", "MAXVALUE"});
+
+        newTasklet(0, 0).execute(null, null);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션은 DROP PARTITION 으로 삭제한다")
+    void dropsExpiredPartitions() throws Exception {
+        givenPartitions(
+            new String[] {"p_archive", "'2026-01-01 00:00:00'"},
+            new String[] {"p202601", "'2026-02-01 00:00:00'"},
+            new String[] {"p202602", "'2026-03-01 00:00:00'"},
+            new String[] {"p202603", "'2026-04-01 00:00:00'"},
+            new String[] {"pmax", "MAXVALUE"});
+
+        newTasklet(0, 1).execute(null, null);
+
+        // 보관 1개월: 2026-02-01 이전 상한(2026-01 이전 주문)만 삭제
+        assertEquals(List.of("ALTER TABLE orders DROP PARTITION p_archive, p202601"), executedDdl(1));
+    }
+
+    @Test
+    @DisplayName("마지막 파티션이 pmax 가 아니면 월 파티션을 추가하지 않는다")
+    void skipsAddWhenLastPartitionIsNotPmax() throws Exception {
+        givenPartitions(
+            new String[] {"p202601", "'2026-02-01 00:00:00'"});
+
+        newTasklet(3, 0).execute(null, null);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private OrderPartitionMaintenanceTasklet newTasklet(int monthsAhead, int retentionMonths) {
+        return new OrderPartitionMaintenanceTasklet(jdbcTemplate, monthsAhead, retentionMonths, CLOCK);
+    }
+
+    /**
+     * information_schema.PARTITIONS 조회 결과를 {PARTITION_NAME, PARTITION_DESCRIPTION} 행으로 지정합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(String[]... rows) throws Exception {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (String[] row : rows) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getString("PARTITION_NAME")).thenReturn(row[0]);
+            when(rs.getString("PARTITION_DESCRIPTION")).thenReturn(row[1]);
+            resultSets.add(rs);
+        }
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("orders"))).thenAnswer(invocation -> {
+            RowMapper<Object> rowMapper = invocation.getArgument(1);
+            List<Object> partitions = new ArrayList<>();
+            for (int i = 0; i < resultSets.size(); i++) {
+                partitions.add(rowMapper.mapRow(resultSets.get(i), i));
+            }
+            return partitions;
+        });
+    }
+
+    private List<String> executedDdl(int count) {
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(count)).execute(ddl.capture());
+        return ddl.getAllValues();
+    }
+}
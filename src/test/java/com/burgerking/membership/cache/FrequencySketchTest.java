@@ -0,0 +1,70 @@
+package com.burgerking.membership.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FrequencySketch 단위 테스트입니다.
+ */
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("접근하지 않은 키의 빈도는 0이고, 증가시킨 만큼 빈도가 오른다")
+    void countsIncrements() {
+        FrequencySketch sketch = new FrequencySketch(100);
+
+        assertEquals(0, sketch.frequency(42L));
+        for (int i = 0; i < 3; i++) {
+            sketch.increment(42L);
+        }
+
+        assertEquals(3, sketch.frequency(42L));
+        assertEquals(0, sketch.frequency(43L));
+    }
+
+    @Test
+    @DisplayName("빈도는 4비트 카운터 최댓값 15에서 멈춘다")
+    void saturatesAtMaxCount() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(7L);
+        }
+
+        assertEquals(15, sketch.frequency(7L));
+    }
+
+    @Test
+    @DisplayName("여러 키를 넣어도 빈도를 실제보다 낮게 추정하지 않는다")
+    void neverUnderestimates() {
+        FrequencySketch sketch = new FrequencySketch(100);
+
+        for (long key = 0; key < 100; key++) {
+            for (int i = 0; i <= key % 15; i++) {
+                sketch.increment(key);
+            }
+        }
+
+        for (long key = 0; key < 100; key++) {
+            assertTrue(sketch.frequency(key) >= key % 15 + 1, "key " + key + " 빈도 과소 추정");
+        }
+    }
+
+    @Test
+    @DisplayName("증가 횟수가 sampleSize 에 도달하면 모든 빈도를 절반으로 줄인다")
+    void halvesCountersAfterSampleSize() {
+        FrequencySketch sketch = new FrequencySketch(1); // sampleSize = 16
+
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(1L);
+        }
+        assertEquals(15, sketch.frequency(1L));
+
+        sketch.increment(2L); // 16번째 증가
+
+        assertEquals(7, sketch.frequency(1L));
+        assertEquals(0, sketch.frequency(2L));
+    }
+}
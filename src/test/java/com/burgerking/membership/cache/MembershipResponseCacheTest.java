@@ -0,0 +1,209 @@
+package com.burgerking.membership.cache;
+
+import com.burgerking.membership.domain.enums.MembershipGrade;
+import com.burgerking.membership.web.dto.MembershipResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MembershipResponseCache 로컬 캐시 단위 테스트입니다. (Redis 미사용)
+ */
+class MembershipResponseCacheTest {
+
+    @Test
+    @DisplayName("한 번 읽은 멤버십은 다시 loader 를 호출하지 않고 캐시에서 반환한다")
+    void cachesLoadedResponse() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ofMinutes(10));
+        CountingLoader loader = new CountingLoader(1L, MembershipGrade.BRONZE);
+
+        MembershipResponse first = cache.getOrLoad(1L, loader);
+        MembershipResponse second = cache.getOrLoad(1L, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loader.count());
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 loader 를 호출한다")
+    void disabledCacheAlwaysLoads() {
+        MembershipResponseCache cache = newCache(false, 1000, Duration.ofMinutes(10));
+        CountingLoader loader = new CountingLoader(1L, MembershipGrade.BRONZE);
+
+        cache.getOrLoad(1L, loader);
+        cache.getOrLoad(1L, loader);
+
+        assertEquals(2, loader.count());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 다시 읽는다")
+    void expiredEntryIsReloaded() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ZERO);
+        CountingLoader loader = new CountingLoader(1L, MembershipGrade.BRONZE);
+
+        cache.getOrLoad(1L, loader);
+        cache.getOrLoad(1L, loader);
+
+        assertEquals(2, loader.count());
+    }
+
+    @Test
+    @DisplayName("evict 한 사용자는 다시 읽고, 다른 사용자의 캐시는 유지한다")
+    void evictRemovesOnlyThatUser() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ofMinutes(10));
+        CountingLoader user1 = new CountingLoader(1L, MembershipGrade.BRONZE);
+        CountingLoader user2 = new CountingLoader(2L, MembershipGrade.BRONZE);
+        cache.getOrLoad(1L, user1);
+        cache.getOrLoad(2L, user2);
+
+        cache.evict(1L);
+        cache.getOrLoad(1L, user1);
+        cache.getOrLoad(2L, user2);
+
+        assertEquals(2, user1.count());
+        assertEquals(1, user2.count());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 같은 사용자가 무효화되면 읽은 값을 캐시하지 않는다")
+    void responseLoadedDuringEvictIsNotCached() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<MembershipResponse> staleLoader = () -> {
+            loads.incrementAndGet();
+            cache.evict(1L); // 조회 중 승급 등으로 무효화
+            return response(1L, MembershipGrade.BRONZE);
+        };
+
+        cache.getOrLoad(1L, staleLoader);
+        MembershipResponse reloaded = cache.getOrLoad(1L, new CountingLoader(1L, MembershipGrade.SILVER));
+
+        assertEquals(1, loads.get());
+        assertEquals(MembershipGrade.SILVER, reloaded.getGrade());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 전체 무효화가 일어나면 읽은 값을 캐시하지 않는다")
+    void responseLoadedDuringInvalidateAllIsNotCached() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ofMinutes(10));
+        CountingLoader loader = new CountingLoader(1L, MembershipGrade.BRONZE);
+
+        cache.getOrLoad(1L, () -> {
+            cache.invalidateAll();
+            return response(1L, MembershipGrade.BRONZE);
+        });
+        cache.getOrLoad(1L, loader);
+
+        assertEquals(1, loader.count());
+    }
+
+    @Test
+    @DisplayName("refreshAll 은 이미 캐시된 사용자만 최신 값으로 교체한다")
+    void refreshAllReplacesOnlyCachedEntries() {
+        MembershipResponseCache cache = newCache(true, 1000, Duration.ofMinutes(10));
+        cache.getOrLoad(1L, new CountingLoader(1L, MembershipGrade.BRONZE));
+
+        cache.refreshAll(List.of(response(1L, MembershipGrade.GOLD), response(2L, MembershipGrade.GOLD)));
+
+        CountingLoader user1 = new CountingLoader(1L, MembershipGrade.BRONZE);
+        CountingLoader user2 = new CountingLoader(2L, MembershipGrade.BRONZE);
+        assertEquals(MembershipGrade.GOLD, cache.getOrLoad(1L, user1).getGrade());
+        assertEquals(MembershipGrade.BRONZE, cache.getOrLoad(2L, user2).getGrade());
+        assertEquals(0, user1.count());
+        assertEquals(1, user2.count());
+    }
+
+    @Test
+    @DisplayName("가득 찬 스트라이프에는 밀려날 항목보다 자주 요청된 사용자만 들어온다 (TinyLFU)")
+    void admitsOnlyMoreFrequentCandidate() {
+        // maximum-size 16 이면 스트라이프(16개)당 1개, 사용자 1과 17은 같은 스트라이프
+        MembershipResponseCache cache = newCache(true, 16, Duration.ofMinutes(10));
+        CountingLoader hot = new CountingLoader(1L, MembershipGrade.BRONZE);
+        CountingLoader cold = new CountingLoader(17L, MembershipGrade.BRONZE);
+        for (int i = 0; i < 5; i++) {
+            cache.getOrLoad(1L, hot);
+        }
+
+        cache.getOrLoad(17L, cold);
+        cache.getOrLoad(17L, cold);
+        cache.getOrLoad(1L, hot);
+
+        assertEquals(2, cold.count());
+        assertEquals(1, hot.count());
+    }
+
+    @Test
+    @DisplayName("새 사용자는 window 에 먼저 들어가고, window 에서 밀려날 때 main 의 자주 요청된 사용자를 밀어내지 못한다 (W-TinyLFU)")
+    void newEntryStaysInWindowUntilPushedOutByFrequency() {
+        // maximum-size 160 이면 스트라이프당 10개 (window 1 + main 9), 사용자 ID 가 16 씩 차이 나면 같은 스트라이프
+        MembershipResponseCache cache = newCache(true, 160, Duration.ofMinutes(10));
+        List<CountingLoader> hot = new ArrayList<>();
+        for (long userId = 1; userId <= 16 * 8 + 1; userId += 16) {
+            hot.add(new CountingLoader(userId, MembershipGrade.BRONZE));
+        }
+        for (int i = 0; i < 5; i++) {
+            for (CountingLoader loader : hot) {
+                cache.getOrLoad(loader.userId, loader);
+            }
+        }
+        CountingLoader cold = new CountingLoader(16 * 100 + 1L, MembershipGrade.BRONZE);
+        CountingLoader next = new CountingLoader(16 * 101 + 1L, MembershipGrade.BRONZE);
+
+        // main 이 가득 차도 새 사용자는 window 에 남아 바로 다음 조회는 캐시에서 반환한다
+        cache.getOrLoad(cold.userId, cold);
+        cache.getOrLoad(cold.userId, cold);
+        assertEquals(1, cold.count());
+
+        // 다른 새 사용자에게 window 를 내주면, 자주 요청된 main 사용자보다 빈도가 낮아 버려진다
+        cache.getOrLoad(next.userId, next);
+        cache.getOrLoad(cold.userId, cold);
+        assertEquals(2, cold.count());
+        for (CountingLoader loader : hot) {
+            cache.getOrLoad(loader.userId, loader);
+            assertEquals(1, loader.count());
+        }
+    }
+
+    private static MembershipResponseCache newCache(boolean enabled, int maximumSize, Duration ttl) {
+        return new MembershipResponseCache(null, new ObjectMapper(), enabled, maximumSize, ttl,
+                false, Duration.ofHours(1), Duration.ofSeconds(30));
+    }
+
+    private static MembershipResponse response(Long userId, MembershipGrade grade) {
+        return MembershipResponse.builder()
+                .id(userId)
+                .userId(userId)
+                .grade(grade)
+                .build();
+    }
+
+    private static final class CountingLoader implements Supplier<MembershipResponse> {
+        private final Long userId;
+        private final MembershipGrade grade;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingLoader(Long userId, MembershipGrade grade) {
+            this.userId = userId;
+            this.grade = grade;
+        }
+
+        @Override
+        public MembershipResponse get() {
+            calls.incrementAndGet();
+            return response(userId, grade);
+        }
+
+        private int count() {
+            return calls.get();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.burgerking.membership.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MembershipGrade.evaluateGrade 기준 금액 경계 단위 테스트입니다.
+ */
+class MembershipGradeTest {
+
+    @Test
+    @DisplayName("각 등급은 기준 금액부터 적용되고, 1원 모자라면 아래 등급이다")
+    void appliesGradeFromThresholdInclusive() {
+        assertEquals(MembershipGrade.BRONZE, MembershipGrade.evaluateGrade(0));
+        assertEquals(MembershipGrade.BRONZE, MembershipGrade.evaluateGrade(99_999));
+        assertEquals(MembershipGrade.SILVER, MembershipGrade.evaluateGrade(100_000));
+        assertEquals(MembershipGrade.SILVER, MembershipGrade.evaluateGrade(299_999));
+        assertEquals(MembershipGrade.GOLD, MembershipGrade.evaluateGrade(300_000));
+        assertEquals(MembershipGrade.GOLD, MembershipGrade.evaluateGrade(599_999));
+        assertEquals(MembershipGrade.PLATINUM, MembershipGrade.evaluateGrade(600_000));
+        assertEquals(MembershipGrade.PLATINUM, MembershipGrade.evaluateGrade(999_999));
+        assertEquals(MembershipGrade.VIP, MembershipGrade.evaluateGrade(1_000_000));
+        assertEquals(MembershipGrade.VIP, MembershipGrade.evaluateGrade(Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("PLATINUM 구간(600,000 ~ 999,999)은 VIP 가 아닌 PLATINUM 으로 평가한다")
+    void platinumIsReachable() {
+        // 예전 구현은 VIP 분기에서 PLATINUM 기준 금액과 비교하여 PLATINUM 에 도달할 수 없었습니다.
+        assertEquals(MembershipGrade.PLATINUM, MembershipGrade.evaluateGrade(700_000));
+        assertNotEquals(MembershipGrade.VIP, MembershipGrade.evaluateGrade(600_000));
+    }
+
+    @Test
+    @DisplayName("음수 금액(환불 등)은 BRONZE 로 평가한다")
+    void negativeAmountIsBronze() {
+        assertEquals(MembershipGrade.BRONZE, MembershipGrade.evaluateGrade(-1));
+    }
+
+    @Test
+    @DisplayName("enum 선언 순서는 기준 금액 오름차순이다 (evaluateGrade 와 SQL CASE 생성의 전제)")
+    void declaredInAscendingThresholdOrder() {
+        MembershipGrade[] grades = MembershipGrade.values();
+        assertEquals(0, grades[0].getRequiredAmount().intValue());
+        for (int i = 1; i < grades.length; i++) {
+            assertTrue(grades[i - 1].getRequiredAmount() < grades[i].getRequiredAmount(),
+                    grades[i - 1] + " >= " + grades[i]);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.burgerking.membership.ingest;
+
+import com.burgerking.membership.exception.MembershipException;
+import com.burgerking.membership.service.MembershipService;
+import com.burgerking.membership.web.dto.OrderProcessRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OrderIngestionQueue 접수/소비 동작 단위 테스트
+ */
+class OrderIngestionQueueTest {
+
+    private final MembershipService membershipService = mock(MembershipService.class);
+
+    @TempDir
+    Path tempDir;
+
+    private OrderIngestionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 접수를 거절한다")
+    void offerReturnsFalseWhenFull() {
+        queue = newQueue(false, 2, 5);
+
+        assertTrue(queue.offer(order("ORD-1")));
+        assertTrue(queue.offer(order("ORD-2")));
+        assertFalse(queue.offer(order("ORD-3")));
+    }
+
+    @Test
+    @DisplayName("접수된 주문은 소비 스레드가 일괄 처리한다")
+    void consumerProcessesAcceptedOrders() throws InterruptedException {
+        // 소비 스레드는 micro-batch 목록을 재사용하므로 호출 시점에 복사해 둔다
+        List<OrderProcessRequest> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            processed.addAll(invocation.getArgument(0));
+            latch.countDown();
+            return null;
+        }).when(membershipService).processOrders(anyList());
+        queue = newQueue(true, 10, 5);
+        queue.start();
+
+        OrderProcessRequest request = order("ORD-1");
+        assertTrue(queue.offer(request));
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(request), processed);
+    }
+
+    @Test
+    @DisplayName("일괄 처리가 실패하면 한 건씩 다시 처리한다")
+    void fallsBackToSingleOrdersWhenBatchFails() {
+        doThrow(new IllegalStateException("batch failed")).when(membershipService).processOrders(anyList());
+        queue = newQueue(true, 10, 5);
+        queue.start();
+
+        OrderProcessRequest request = order("ORD-1");
+        assertTrue(queue.offer(request));
+
+        verify(membershipService, timeout(2000)).processOrder(request);
+    }
+
+    @Test
+    @DisplayName("한 건 처리도 실패한 주문은 백오프 후 재시도한다")
+    void retriesFailedOrderAfterBackoff() {
+        doThrow(new IllegalStateException("batch failed")).when(membershipService).processOrders(anyList());
+        AtomicInteger attempts = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+            }
+            return null;
+        }).when(membershipService).processOrder(any());
+        queue = newQueue(true, 10, 5);
+        queue.start();
+
+        OrderProcessRequest request = order("ORD-1");
+        assertTrue(queue.offer(request));
+
+        verify(membershipService, timeout(2000).times(2)).processOrder(request);
+        assertFalse(Files.exists(deadLetterPath()));
+    }
+
+    @Test
+    @DisplayName("재시도 대기 주문이 max-pending 건에 이르면 새 주문 접수를 거절한다")
+    void offerReturnsFalseWhenPendingRetriesReachLimit() throws InterruptedException {
+        doThrow(new IllegalStateException("batch failed")).when(membershipService).processOrders(anyList());
+        doThrow(new IllegalStateException("db down")).when(membershipService).processOrder(any());
+        queue = new OrderIngestionQueue(membershipService, new ObjectMapper(), true, 10, 1, 10,
+            5, 2, 60_000, 60_000, deadLetterPath().toString());
+        queue.start();
+
+        // 재시도 대기 주문 1건은 한도(2건) 아래이므로 계속 접수한다
+        assertTrue(queue.offer(order("ORD-1")));
+        verify(membershipService, timeout(2000)).processOrder(any());
+        Thread.sleep(100); // 실패 직후 재시도 예약까지 대기
+        assertTrue(queue.offer(order("ORD-2")));
+        verify(membershipService, timeout(2000).times(2)).processOrder(any());
+        Thread.sleep(100);
+
+        assertFalse(queue.offer(order("ORD-3")));
+    }
+
+    @Test
+    @DisplayName("검증 실패처럼 재시도해도 같은 결과인 주문은 재시도 없이 바로 dead-letter 파일에 남긴다")
+    void writesDeadLetterWithoutRetryForNonTransientFailure() throws Exception {
+        doThrow(new IllegalStateException("batch failed")).when(membershipService).processOrders(anyList());
+        doThrow(MembershipException.invalidOrderAmount(-1)).when(membershipService).processOrder(any());
+        queue = newQueue(true, 10, 5);
+        queue.start();
+
+        assertTrue(queue.offer(order("ORD-1")));
+
+        List<String> lines = awaitDeadLetterLines();
+        assertEquals(1, lines.size());
+        Thread.sleep(200); // 재시도 백오프(10ms)가 지나도 다시 처리하지 않는지 확인
+        verify(membershipService, times(1)).processOrder(any());
+        assertTrue(queue.offer(order("ORD-2")));
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반은 재시도하지 않고, 커넥션 획득 실패는 재시도한다")
+    void classifiesNonTransientFailures() {
+        assertTrue(OrderIngestionQueue.isNonTransient(MembershipException.invalidOrderAmount(-1)));
+        assertTrue(OrderIngestionQueue.isNonTransient(new DataIntegrityViolationException("duplicate")));
+        assertFalse(OrderIngestionQueue.isNonTransient(new CannotGetJdbcConnectionException("db down")));
+        assertFalse(OrderIngestionQueue.isNonTransient(new QueryTimeoutException("timeout")));
+        assertFalse(OrderIngestionQueue.isNonTransient(new IllegalStateException("db down")));
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 주문은 dead-letter 파일에 남긴다")
+    void writesDeadLetterAfterMaxAttempts() throws Exception {
+        doThrow(new IllegalStateException("batch failed")).when(membershipService).processOrders(anyList());
+        doThrow(new IllegalStateException("db down")).when(membershipService).processOrder(any());
+        queue = newQueue(true, 10, 2);
+        queue.start();
+
+        assertTrue(queue.offer(order("ORD-1")));
+
+        // 일괄 처리 실패 후 한 건 처리 1회 + 재시도 2회
+        verify(membershipService, timeout(2000).times(3)).processOrder(any());
+        List<String> lines = awaitDeadLetterLines();
+        assertEquals(1, lines.size());
+        OrderProcessRequest deadLetter = new ObjectMapper().readValue(lines.get(0), OrderProcessRequest.class);
+        assertEquals("ORD-1", deadLetter.getOrderNumber());
+        assertEquals(10000, deadLetter.getOrderAmount().intValue());
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 주문을 처리한다")
+    void stopProcessesRemainingOrders() {
+        queue = newQueue(true, 10, 5);
+        assertTrue(queue.offer(order("ORD-1")));
+
+        // 소비 스레드가 꺼내기 전에 종료해도 남은 주문은 종료 과정에서 처리된다
+        queue.start();
+        queue.stop();
+        queue = null;
+
+        verify(membershipService, timeout(2000).atLeastOnce()).processOrders(anyList());
+        verify(membershipService, never()).processOrder(any());
+        assertFalse(Files.exists(deadLetterPath()));
+    }
+
+    private OrderIngestionQueue newQueue(boolean enabled, int capacity, int maxAttempts) {
+        return new OrderIngestionQueue(membershipService, new ObjectMapper(), enabled, capacity, 1, 10,
+            maxAttempts, 100, 10, 50, deadLetterPath().toString());
+    }
+
+    private Path deadLetterPath() {
+        return tempDir.resolve("order-dead-letter.ndjson");
+    }
+
+    private List<String> awaitDeadLetterLines() throws IOException, InterruptedException {
+        // 파일은 줄을 쓰기 전에 만들어지므로 줄이 생길 때까지 기다린다
+        long deadline = System.currentTimeMillis() + 2000;
+        List<String> lines = List.of();
+        while (lines.isEmpty() && System.currentTimeMillis() < deadline) {
+            if (Files.exists(deadLetterPath())) {
+                lines = Files.readAllLines(deadLetterPath(), StandardCharsets.UTF_8);
+            }
+            if (lines.isEmpty()) {
+                Thread.sleep(20);
+            }
+        }
+        return lines;
+    }
+
+    private OrderProcessRequest order(String orderNumber) {
+        return new OrderProcessRequest(1L, orderNumber, 10000);
+    }
+}